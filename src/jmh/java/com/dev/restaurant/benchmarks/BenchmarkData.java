@@ -0,0 +1,102 @@
+package com.dev.restaurant.benchmarks;
+
+import com.dev.restaurant.domain.entities.Address;
+import com.dev.restaurant.domain.entities.OperatingHours;
+import com.dev.restaurant.domain.entities.Photo;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.domain.entities.TimeRange;
+import com.dev.restaurant.domain.entities.User;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static Restaurant restaurant(String id, List<Review> reviews) {
+        Map<String, Integer> histogram = new HashMap<>();
+        long ratingSum = 0;
+        for (Review review : reviews) {
+            histogram.merge(String.valueOf(review.getRating()), 1, Integer::sum);
+            ratingSum += review.getRating();
+        }
+
+        TimeRange hours = TimeRange.builder().openTime("09:00").closeTime("22:00").build();
+
+        return Restaurant.builder()
+                .id(id)
+                .name("Benchmark Bistro " + id)
+                .cuisineType("Italian")
+                .contactInformation("+44 20 7946 0000")
+                .averageRating(reviews.isEmpty() ? 0f : (float) ratingSum / reviews.size())
+                .totalReviews(reviews.size())
+                .ratingSum(ratingSum)
+                .ratingHistogram(histogram)
+                .geoLocation(new GeoPoint(51.5072, -0.1276))
+                .address(Address.builder()
+                        .streetNumber("221B")
+                        .streetName("Baker Street")
+                        .city("London")
+                        .state("Greater London")
+                        .postalCode("NW1 6XE")
+                        .country("United Kingdom")
+                        .build())
+                .operatingHours(OperatingHours.builder()
+                        .monday(hours).tuesday(hours).wednesday(hours).thursday(hours)
+                        .friday(hours).saturday(hours).sunday(hours)
+                        .build())
+                .photos(photos(id, 8))
+                .reviews(new ArrayList<>(reviews))
+                .createdBy(user("owner-" + id))
+                .build();
+    }
+
+    static List<Review> reviews(String restaurantId, int count) {
+        SplittableRandom random = new SplittableRandom(count);
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    LocalDateTime posted = EPOCH.plusMinutes(random.nextInt(525_600));
+                    return Review.builder()
+                            .id(restaurantId + "-review-" + i)
+                            .restaurantId(restaurantId)
+                            .content("Review " + i + " of a restaurant we would happily visit again.")
+                            .rating(1 + random.nextInt(5))
+                            .datePosted(posted)
+                            .lastEdited(posted)
+                            .photos(photos(restaurantId + "-" + i, random.nextInt(3)))
+                            .writtenBy(user("user-" + i))
+                            .build();
+                })
+                .toList();
+    }
+
+    private static List<Photo> photos(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Photo.builder()
+                        .url(prefix + "-photo-" + i + ".jpg")
+                        .uploadDate(EPOCH)
+                        .build())
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    private static User user(String id) {
+        return User.builder()
+                .id(id)
+                .username(id)
+                .givenName("Given")
+                .familyName("Family")
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.restaurant.benchmarks;
+
+import com.dev.restaurant.domain.dtos.RestaurantDto;
+import com.dev.restaurant.domain.dtos.RestaurantSummaryDto;
+import com.dev.restaurant.domain.dtos.ReviewDto;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.mappers.RestaurantMapper;
+import com.dev.restaurant.mappers.ReviewMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int reviewCount;
+
+    private RestaurantMapper restaurantMapper;
+    private ReviewMapper reviewMapper;
+    private Restaurant restaurant;
+    private List<Review> reviewPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurantMapper = Mappers.getMapper(RestaurantMapper.class);
+        reviewMapper = Mappers.getMapper(ReviewMapper.class);
+
+        List<Review> reviews = BenchmarkData.reviews("restaurant-1", reviewCount);
+        restaurant = BenchmarkData.restaurant("restaurant-1", reviews);
+        reviewPage = reviews.subList(0, Math.min(20, reviews.size()));
+    }
+
+    @Benchmark
+    public RestaurantDto toRestaurantDto() {
+        return restaurantMapper.toRestaurantDto(restaurant);
+    }
+
+    @Benchmark
+    public RestaurantSummaryDto toRestaurantSummaryDto() {
+        return restaurantMapper.toRestaurantSummaryDto(restaurant);
+    }
+
+    @Benchmark
+    public List<ReviewDto> toReviewDtoPage() {
+        return reviewPage.stream().map(reviewMapper::toReviewDto).toList();
+    }
+}
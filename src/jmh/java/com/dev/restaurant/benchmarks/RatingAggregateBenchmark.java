@@ -0,0 +1,66 @@
+package com.dev.restaurant.benchmarks;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RatingAggregateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int reviewCount;
+
+    private Restaurant restaurant;
+    private List<Integer> ratings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Review> reviews = BenchmarkData.reviews("restaurant-1", reviewCount);
+        restaurant = BenchmarkData.restaurant("restaurant-1", reviews);
+        ratings = reviews.stream().map(Review::getRating).toList();
+    }
+
+    @Benchmark
+    public Restaurant applyAddedReview() {
+        RatingDelta.added(4).applyTo(restaurant);
+        RatingDelta.removed(4).applyTo(restaurant);
+        return restaurant;
+    }
+
+    @Benchmark
+    public Restaurant applyCoalescedDeltas() {
+        RatingDelta delta = RatingDelta.added(5)
+                .merge(RatingDelta.changed(2, 3))
+                .merge(RatingDelta.removed(5))
+                .merge(RatingDelta.changed(3, 2));
+        delta.applyTo(restaurant);
+        return restaurant;
+    }
+
+    @Benchmark
+    public Restaurant rebuildFromAllRatings() {
+        Restaurant rebuilt = Restaurant.builder().id(restaurant.getId()).build();
+        RatingDelta.ofRatings(ratings).applyTo(rebuilt);
+        return rebuilt;
+    }
+}
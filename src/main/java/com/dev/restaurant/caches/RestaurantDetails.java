@@ -0,0 +1,6 @@
+package com.dev.restaurant.caches;
+
+import com.dev.restaurant.domain.dtos.RestaurantDto;
+
+public record RestaurantDetails(RestaurantDto restaurant, String etag) {
+}
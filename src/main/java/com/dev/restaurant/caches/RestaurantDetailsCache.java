@@ -0,0 +1,40 @@
+package com.dev.restaurant.caches;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class RestaurantDetailsCache {
+
+    private final Cache<String, RestaurantDetails> cache;
+
+    public RestaurantDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.restaurant-details.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.restaurant-details.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurantDetails");
+    }
+
+    public Optional<RestaurantDetails> get(String restaurantId, Function<String, Optional<RestaurantDetails>> loader) {
+        return Optional.ofNullable(cache.get(restaurantId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public void evict(String restaurantId) {
+        cache.invalidate(restaurantId);
+    }
+}
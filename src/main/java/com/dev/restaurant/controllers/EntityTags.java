@@ -0,0 +1,42 @@
+package com.dev.restaurant.controllers;
+
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String forVersion(String indexName, SeqNoPrimaryTerm seqNoPrimaryTerm) {
+        if (null == indexName || null == seqNoPrimaryTerm) {
+            return null;
+        }
+        return "\"" + indexName + "-" + seqNoPrimaryTerm.primaryTerm() + "-" + seqNoPrimaryTerm.sequenceNumber() + "\"";
+    }
+
+    static String forVersion(SeqNoPrimaryTerm seqNoPrimaryTerm) {
+        if (null == seqNoPrimaryTerm) {
+            return null;
+        }
+        return "\"" + seqNoPrimaryTerm.primaryTerm() + "-" + seqNoPrimaryTerm.sequenceNumber() + "\"";
+    }
+
+    static String forContent(List<String> versions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            versions.forEach(version -> {
+                digest.update(version.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            });
+            return "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,16 +2,24 @@ package com.dev.restaurant.controllers;
 
 import com.dev.restaurant.domain.dtos.ErrorDto;
 import com.dev.restaurant.exceptions.BaseException;
+import com.dev.restaurant.exceptions.FileTooLargeException;
+import com.dev.restaurant.exceptions.InvalidSearchException;
+import com.dev.restaurant.exceptions.PhotoVariantUnavailableException;
 import com.dev.restaurant.exceptions.RestaurantNotFoundException;
 import com.dev.restaurant.exceptions.ReviewNotAllowedException;
 import com.dev.restaurant.exceptions.StorageException;
+import com.dev.restaurant.exceptions.UploadRejectedException;
+import com.dev.restaurant.exceptions.WriteConflictException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.stream.Collectors;
 
@@ -20,6 +28,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ErrorController {
 
+    private static final String PHOTO_VARIANT_RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDto> handleException(Exception e) {
         log.error("Caught Unexpected Exception: ", e);
@@ -65,6 +75,51 @@ public class ErrorController {
         );
     }
 
+    @ExceptionHandler({FileTooLargeException.class, MaxUploadSizeExceededException.class})
+    public ResponseEntity<ErrorDto> handleFileTooLargeException(Exception e) {
+        log.error("Caught FileTooLargeException: ", e);
+
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .message("The uploaded file exceeds the maximum allowed size")
+                .build();
+
+        return new ResponseEntity<>(
+                errorDto,
+                HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
+    @ExceptionHandler(UploadRejectedException.class)
+    public ResponseEntity<ErrorDto> handleUploadRejectedException(UploadRejectedException e) {
+        log.error("Caught UploadRejectedException: ", e);
+
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Too many uploads are being processed, please retry later")
+                .build();
+
+        return new ResponseEntity<>(
+                errorDto,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    @ExceptionHandler(PhotoVariantUnavailableException.class)
+    public ResponseEntity<ErrorDto> handlePhotoVariantUnavailableException(PhotoVariantUnavailableException e) {
+        log.warn("Caught PhotoVariantUnavailableException: {}", e.getMessage());
+
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Photo variant is not available yet, please retry later")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, PHOTO_VARIANT_RETRY_AFTER_SECONDS)
+                .cacheControl(CacheControl.noStore())
+                .body(errorDto);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorDto> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         log.error("Caught MethodArgumentNotValidException: ", e);
@@ -116,4 +171,34 @@ public class ErrorController {
                 HttpStatus.BAD_REQUEST
         );
     }
+
+    @ExceptionHandler(WriteConflictException.class)
+    public ResponseEntity<ErrorDto> handleWriteConflictException(WriteConflictException e) {
+        log.error("Caught WriteConflictException: ", e);
+
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .message("The resource was modified concurrently, please retry")
+                .build();
+
+        return new ResponseEntity<>(
+                errorDto,
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<ErrorDto> handleInvalidSearchException(InvalidSearchException e) {
+        log.error("Caught InvalidSearchException: ", e);
+
+        ErrorDto errorDto = ErrorDto.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .build();
+
+        return new ResponseEntity<>(
+                errorDto,
+                HttpStatus.BAD_REQUEST
+        );
+    }
 }
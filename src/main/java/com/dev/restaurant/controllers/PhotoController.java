@@ -1,17 +1,24 @@
 package com.dev.restaurant.controllers;
 
+import com.dev.restaurant.domain.PhotoUpload;
 import com.dev.restaurant.domain.dtos.PhotoDto;
+import com.dev.restaurant.domain.dtos.PhotoUploadDto;
 import com.dev.restaurant.domain.entities.Photo;
 import com.dev.restaurant.mappers.PhotoMapper;
 import com.dev.restaurant.services.PhotoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
 
 @RestController
 @RequestMapping(path = "/api/photos")
@@ -20,6 +27,7 @@ public class PhotoController {
 
     private final PhotoService photoService;
     private final PhotoMapper photoMapper;
+    private final PhotoResponseWriter photoResponseWriter;
 
     @PostMapping
     public PhotoDto uploadPhoto(
@@ -29,17 +37,57 @@ public class PhotoController {
         return photoMapper.toDto(savedPhoto);
     }
 
+    @PostMapping(consumes = "image/*")
+    public PhotoDto uploadPhotoStream(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        String extension = "jpeg".equals(contentType.getSubtype()) ? "jpg" : contentType.getSubtype();
+        if (!extension.matches("[a-z0-9]+")) {
+            extension = null;
+        }
+
+        try (InputStream inputStream = request.getInputStream()) {
+            Photo savedPhoto = photoService.uploadPhoto(inputStream, request.getContentLengthLong(), extension);
+            return photoMapper.toDto(savedPhoto);
+        }
+    }
+
+    @PostMapping(path = "/uploads")
+    public ResponseEntity<PhotoUploadDto> submitUpload(
+            @RequestParam("file") MultipartFile file
+    ) {
+        PhotoUpload upload = photoService.submitUpload(file);
+        return ResponseEntity
+                .accepted()
+                .location(
+                        ServletUriComponentsBuilder
+                                .fromCurrentRequest()
+                                .path("/{uploadId}")
+                                .buildAndExpand(upload.getId())
+                                .toUri()
+                )
+                .body(photoMapper.toDto(upload));
+    }
+
+    @GetMapping(path = "/uploads/{uploadId}")
+    public ResponseEntity<PhotoUploadDto> getUpload(@PathVariable String uploadId) {
+        return photoService.getUpload(uploadId)
+                .map(photoMapper::toDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping(path = "/{id:.+}")
-    public ResponseEntity<Resource> getPhoto(@PathVariable String id) {
-        return photoService.getPhotoAsResource(id).map(photo ->
-                ResponseEntity.ok()
-                        .contentType(
-                                MediaTypeFactory
-                                        .getMediaType(photo)
-                                        .orElse(MediaType.APPLICATION_OCTET_STREAM)
-                        )
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                        .body(photo)
-        ).orElse(ResponseEntity.notFound().build());
+    public void getPhoto(
+            @PathVariable String id,
+            @RequestParam(name = "w", required = false) Integer width,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Optional<Resource> photo = photoService.getPhotoAsResource(id, width);
+        if (photo.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        photoResponseWriter.write(photo.get(), request, response);
     }
 }
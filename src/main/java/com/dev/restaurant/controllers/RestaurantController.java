@@ -1,19 +1,37 @@
 package com.dev.restaurant.controllers;
 
+import com.dev.restaurant.caches.RestaurantDetails;
+import com.dev.restaurant.caches.RestaurantDetailsCache;
+import com.dev.restaurant.domain.CursorPage;
+import com.dev.restaurant.domain.RestaurantImportFormat;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.SearchCursor;
+import com.dev.restaurant.domain.dtos.CursorPageDto;
 import com.dev.restaurant.domain.dtos.RestaurantCreateUpdateRequestDto;
 import com.dev.restaurant.domain.dtos.RestaurantDto;
+import com.dev.restaurant.domain.dtos.RestaurantImportReportDto;
 import com.dev.restaurant.domain.dtos.RestaurantSummaryDto;
+import com.dev.restaurant.domain.dtos.SearchProfileDto;
 import com.dev.restaurant.domain.entities.Restaurant;
 import com.dev.restaurant.domain.requests.RestaurantCreateUpdateRequest;
 import com.dev.restaurant.mappers.RestaurantMapper;
+import com.dev.restaurant.services.RestaurantImportService;
 import com.dev.restaurant.services.RestaurantService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping(path = "/api/restaurants")
@@ -21,7 +39,9 @@ import org.springframework.web.bind.annotation.*;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final RestaurantImportService restaurantImportService;
     private final RestaurantMapper restaurantMapper;
+    private final RestaurantDetailsCache restaurantDetailsCache;
 
     @PostMapping
     public ResponseEntity<RestaurantDto> createRestaurant(
@@ -38,6 +58,22 @@ public class RestaurantController {
         );
     }
 
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public RestaurantImportReportDto importRestaurants(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        RestaurantImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? RestaurantImportFormat.NDJSON
+                : RestaurantImportFormat.CSV;
+
+        try (InputStream inputStream = request.getInputStream()) {
+            return restaurantMapper.toRestaurantImportReportDto(
+                    restaurantImportService.importRestaurants(inputStream, format)
+            );
+        }
+    }
+
     @GetMapping
     public Page<RestaurantSummaryDto> searchRestaurants(
             @RequestParam(required = false) String q,
@@ -45,22 +81,159 @@ public class RestaurantController {
             @RequestParam(required = false) Float latitude,
             @RequestParam(required = false) Float longitude,
             @RequestParam(required = false) Float radius,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
+        RestaurantSearchCriteria criteria = RestaurantSearchCriteria.builder()
+                .query(q)
+                .minRating(minRating)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .cuisineType(cuisine)
+                .openNow(openNow)
+                .sortByDistance("distance".equals(sort))
+                .build();
+
         Page<Restaurant> searchResults = restaurantService.searchRestaurants(
-                q, minRating, latitude, longitude, radius, PageRequest.of(page - 1, size)
+                criteria, PageRequest.of(page - 1, size)
         );
 
         return searchResults.map(restaurantMapper::toRestaurantSummaryDto);
     }
 
+    @GetMapping(path = "/profile")
+    public SearchProfileDto profileSearch(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Float minRating,
+            @RequestParam(required = false) Float latitude,
+            @RequestParam(required = false) Float longitude,
+            @RequestParam(required = false) Float radius,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RestaurantSearchCriteria criteria = RestaurantSearchCriteria.builder()
+                .query(q)
+                .minRating(minRating)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .cuisineType(cuisine)
+                .openNow(openNow)
+                .sortByDistance("distance".equals(sort))
+                .build();
+
+        return restaurantMapper.toSearchProfileDto(
+                restaurantService.profileSearch(criteria, PageRequest.of(page - 1, size))
+        );
+    }
+
+    @GetMapping(path = "/scroll")
+    public CursorPageDto<RestaurantSummaryDto> scrollRestaurants(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Float minRating,
+            @RequestParam(required = false) Float latitude,
+            @RequestParam(required = false) Float longitude,
+            @RequestParam(required = false) Float radius,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RestaurantSearchCriteria criteria = RestaurantSearchCriteria.builder()
+                .query(q)
+                .minRating(minRating)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .cuisineType(cuisine)
+                .openNow(openNow)
+                .sortByDistance("distance".equals(sort))
+                .build();
+
+        return searchAfter(criteria, cursor, size);
+    }
+
+    @GetMapping(path = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<RestaurantSummaryDto> streamRestaurants(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Float minRating,
+            @RequestParam(required = false) Float latitude,
+            @RequestParam(required = false) Float longitude,
+            @RequestParam(required = false) Float radius,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        RestaurantSearchCriteria criteria = RestaurantSearchCriteria.builder()
+                .query(q)
+                .minRating(minRating)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .cuisineType(cuisine)
+                .openNow(openNow)
+                .sortByDistance("distance".equals(sort))
+                .build();
+
+        return restaurantService
+                .streamRestaurants(criteria, limit)
+                .map(restaurantMapper::toRestaurantSummaryDto);
+    }
+
+    @GetMapping(path = "/nearby")
+    public CursorPageDto<RestaurantSummaryDto> searchNearbyRestaurants(
+            @RequestParam Float latitude,
+            @RequestParam Float longitude,
+            @RequestParam(required = false) Float radius,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Float minRating,
+            @RequestParam(required = false) String cuisine,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RestaurantSearchCriteria criteria = RestaurantSearchCriteria.builder()
+                .query(q)
+                .minRating(minRating)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .cuisineType(cuisine)
+                .openNow(openNow)
+                .sortByDistance(true)
+                .build();
+
+        return searchAfter(criteria, cursor, size);
+    }
+
     @GetMapping(path = "/{id}")
-    public ResponseEntity<RestaurantDto> getRestaurant(@PathVariable("id") String id) {
-        return restaurantService.getRestaurant(id)
-                .map(restaurant ->
-                        ResponseEntity.ok(restaurantMapper.toRestaurantDto(restaurant))
-                ).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<RestaurantDto> getRestaurant(@PathVariable("id") String id, WebRequest webRequest) {
+        return restaurantDetailsCache.get(id, restaurantId ->
+                        restaurantService.getRestaurant(restaurantId).map(restaurant -> new RestaurantDetails(
+                                restaurantMapper.toRestaurantDto(restaurant),
+                                EntityTags.forVersion(restaurant.getIndexName(), restaurant.getSeqNoPrimaryTerm())
+                        ))
+                )
+                .map(details -> {
+                    if (null != details.etag() && webRequest.checkNotModified(details.etag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(details.etag())
+                                .<RestaurantDto>build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(details.etag())
+                            .body(details.restaurant());
+                })
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping(path = "/{id}")
@@ -81,4 +254,18 @@ public class RestaurantController {
         restaurantService.deleteRestaurant(id);
         return ResponseEntity.noContent().build();
     }
+
+    private CursorPageDto<RestaurantSummaryDto> searchAfter(
+            RestaurantSearchCriteria criteria,
+            String cursor,
+            int size
+    ) {
+        SearchCursor searchCursor = null == cursor ? null : SearchCursor.decode(cursor);
+
+        CursorPage<RestaurantSummaryDto> searchResults = restaurantService
+                .searchRestaurantsAfter(criteria, searchCursor, size)
+                .map(restaurantMapper::toRestaurantSummaryDto);
+
+        return restaurantMapper.toCursorPageDto(searchResults);
+    }
 }
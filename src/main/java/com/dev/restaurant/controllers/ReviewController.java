@@ -13,11 +13,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/api/restaurants/{restaurantId}/reviews")
@@ -46,28 +53,60 @@ public class ReviewController {
     }
 
     @GetMapping
-    public Page<ReviewDto> getReviews(
+    public ResponseEntity<Page<ReviewDto>> getReviews(
             @PathVariable("restaurantId") String restaurantId,
             @PageableDefault(
                     size = 20,
                     page = 0,
                     sort = "datePosted",
                     direction = Sort.Direction.DESC
-            ) Pageable pageable
+            ) Pageable pageable,
+            WebRequest webRequest
+    ) {
+        Page<Review> reviews = reviewService.getReviews(restaurantId, pageable);
+
+        List<String> versions = new ArrayList<>();
+        versions.add(String.valueOf(reviews.getTotalElements()));
+        reviews.forEach(review -> versions.add(review.getId() + ":" + reviewVersion(review)));
+        String etag = EntityTags.forContent(versions);
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(reviews.map(reviewMapper::toReviewDto));
+    }
+
+    @GetMapping(path = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ReviewDto> streamReviews(
+            @PathVariable("restaurantId") String restaurantId,
+            @SortDefault(sort = "datePosted", direction = Sort.Direction.DESC) Sort sort
     ) {
         return reviewService
-                .getReviews(restaurantId, pageable)
+                .streamReviews(restaurantId, sort)
                 .map(reviewMapper::toReviewDto);
     }
 
     @GetMapping(path = "/{reviewId}")
     public ResponseEntity<ReviewDto> getReview(
             @PathVariable("restaurantId") String restaurantId,
-            @PathVariable("reviewId") String reviewId
+            @PathVariable("reviewId") String reviewId,
+            WebRequest webRequest
     ) {
         return reviewService.getReview(restaurantId, reviewId)
-                .map(reviewMapper::toReviewDto)
-                .map(ResponseEntity::ok)
+                .map(review -> {
+                    String etag = EntityTags.forVersion(review.getSeqNoPrimaryTerm());
+                    if (null != etag && webRequest.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .<ReviewDto>build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(etag)
+                            .body(reviewMapper.toReviewDto(review));
+                })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -96,6 +135,11 @@ public class ReviewController {
         return ResponseEntity.noContent().build();
     }
 
+    private static String reviewVersion(Review review) {
+        String version = EntityTags.forVersion(review.getSeqNoPrimaryTerm());
+        return null == version ? String.valueOf(review.getLastEdited()) : version;
+    }
+
     private User jwtToUser(Jwt jwt) {
         return User.builder()
                 .id(jwt.getSubject())
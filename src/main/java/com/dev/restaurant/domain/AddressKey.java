@@ -0,0 +1,30 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.domain.entities.Address;
+
+import java.util.Locale;
+
+public record AddressKey(String value) {
+
+    public static AddressKey of(Address address) {
+        if (null == address) {
+            return new AddressKey("");
+        }
+        return new AddressKey(String.join("|",
+                normalize(address.getStreetNumber()),
+                normalize(address.getStreetName()),
+                normalize(address.getUnit()),
+                normalize(address.getCity()),
+                normalize(address.getState()),
+                normalize(address.getPostalCode()).replace(" ", ""),
+                normalize(address.getCountry())
+        ));
+    }
+
+    private static String normalize(String value) {
+        if (null == value) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
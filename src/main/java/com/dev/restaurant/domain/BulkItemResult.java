@@ -0,0 +1,16 @@
+package com.dev.restaurant.domain;
+
+public record BulkItemResult(String id, String error) {
+
+    public static BulkItemResult success(String id) {
+        return new BulkItemResult(id, null);
+    }
+
+    public static BulkItemResult failure(String error) {
+        return new BulkItemResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return null == error;
+    }
+}
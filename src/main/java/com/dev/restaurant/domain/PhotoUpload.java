@@ -0,0 +1,21 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.domain.entities.Photo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhotoUpload {
+    private String id;
+    private PhotoUploadStatus status;
+    private Photo photo;
+    private String error;
+    private LocalDateTime submittedAt;
+}
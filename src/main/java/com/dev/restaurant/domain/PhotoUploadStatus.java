@@ -0,0 +1,8 @@
+package com.dev.restaurant.domain;
+
+public enum PhotoUploadStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,81 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.domain.entities.Restaurant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingDelta {
+    private int reviewCount;
+    private long ratingSum;
+
+    @Builder.Default
+    private Map<String, Integer> histogram = new HashMap<>();
+
+    public static RatingDelta added(int rating) {
+        RatingDelta delta = new RatingDelta();
+        delta.add(rating, 1);
+        return delta;
+    }
+
+    public static RatingDelta removed(int rating) {
+        RatingDelta delta = new RatingDelta();
+        delta.add(rating, -1);
+        return delta;
+    }
+
+    public static RatingDelta changed(int oldRating, int newRating) {
+        RatingDelta delta = removed(oldRating);
+        delta.add(newRating, 1);
+        return delta;
+    }
+
+    public static RatingDelta ofRatings(Collection<Integer> ratings) {
+        RatingDelta delta = new RatingDelta();
+        ratings.forEach(rating -> delta.add(rating, 1));
+        return delta;
+    }
+
+    public RatingDelta merge(RatingDelta other) {
+        reviewCount += other.reviewCount;
+        ratingSum += other.ratingSum;
+        other.histogram.forEach((star, count) -> histogram.merge(star, count, Integer::sum));
+        histogram.values().removeIf(count -> count == 0);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return reviewCount == 0 && ratingSum == 0 && histogram.isEmpty();
+    }
+
+    public void applyTo(Restaurant restaurant) {
+        int totalReviews = (null == restaurant.getTotalReviews() ? 0 : restaurant.getTotalReviews()) + reviewCount;
+        long totalRating = (null == restaurant.getRatingSum() ? 0 : restaurant.getRatingSum()) + ratingSum;
+
+        Map<String, Integer> ratingHistogram = null == restaurant.getRatingHistogram()
+                ? new HashMap<>()
+                : new HashMap<>(restaurant.getRatingHistogram());
+        histogram.forEach((star, count) -> ratingHistogram.merge(star, count, Integer::sum));
+
+        restaurant.setTotalReviews(totalReviews);
+        restaurant.setRatingSum(totalRating);
+        restaurant.setRatingHistogram(ratingHistogram);
+        restaurant.setAverageRating(totalReviews > 0 ? (float) totalRating / totalReviews : 0f);
+    }
+
+    private void add(int rating, int count) {
+        reviewCount += count;
+        ratingSum += (long) rating * count;
+        histogram.merge(String.valueOf(rating), count, Integer::sum);
+        histogram.values().removeIf(value -> value == 0);
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.restaurant.domain;
+
+public enum RestaurantImportFormat {
+    NDJSON,
+    CSV
+}
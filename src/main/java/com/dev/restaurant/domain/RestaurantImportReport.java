@@ -0,0 +1,19 @@
+package com.dev.restaurant.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantImportReport {
+    private long total;
+    private long created;
+    private long failed;
+    private List<RestaurantImportRowResult> rows;
+}
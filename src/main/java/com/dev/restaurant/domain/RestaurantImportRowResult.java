@@ -0,0 +1,19 @@
+package com.dev.restaurant.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantImportRowResult {
+    private long row;
+    private RestaurantImportRowStatus status;
+    private String restaurantId;
+    private List<String> errors;
+}
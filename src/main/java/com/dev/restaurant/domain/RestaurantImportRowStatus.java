@@ -0,0 +1,7 @@
+package com.dev.restaurant.domain;
+
+public enum RestaurantImportRowStatus {
+    CREATED,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,24 @@
+package com.dev.restaurant.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantSearchCriteria {
+    private String query;
+    private Float minRating;
+    private Float latitude;
+    private Float longitude;
+    private Float radius;
+    private String cuisineType;
+    private boolean openNow;
+    private LocalDateTime openAt;
+    private boolean sortByDistance;
+}
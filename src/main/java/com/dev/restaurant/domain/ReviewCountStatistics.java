@@ -0,0 +1,9 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.domain.entities.Restaurant;
+
+import java.util.List;
+import java.util.Map;
+
+public record ReviewCountStatistics(Map<String, Double> quantiles, List<Restaurant> mostReviewed) {
+}
@@ -0,0 +1,48 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.exceptions.InvalidSearchException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private String pitId;
+
+    private List<Object> searchAfter;
+
+    public static SearchCursor decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token);
+            SearchCursor cursor = OBJECT_MAPPER.readValue(json, SearchCursor.class);
+            if (null == cursor.getPitId() || null == cursor.getSearchAfter()) {
+                throw new InvalidSearchException("Invalid search cursor");
+            }
+            return cursor;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidSearchException("Invalid search cursor", e);
+        }
+    }
+
+    public String encode() {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode search cursor", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.dev.restaurant.domain;
+
+public record SearchProfile(
+        String queryType,
+        String query,
+        long tookMillis,
+        long totalHits,
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        String profile
+) {
+}
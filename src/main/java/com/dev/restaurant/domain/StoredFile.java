@@ -0,0 +1,4 @@
+package com.dev.restaurant.domain;
+
+public record StoredFile(String fileName, String checksum, long size) {
+}
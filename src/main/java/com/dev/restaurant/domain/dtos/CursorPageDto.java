@@ -0,0 +1,20 @@
+package com.dev.restaurant.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    @Builder.Default
+    private List<T> content = new ArrayList<>();
+    private String nextCursor;
+    private Long totalElements;
+}
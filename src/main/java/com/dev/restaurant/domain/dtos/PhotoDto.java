@@ -13,5 +13,6 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class PhotoDto {
     private String url;
+    private String checksum;
     private LocalDateTime uploadDate;
 }
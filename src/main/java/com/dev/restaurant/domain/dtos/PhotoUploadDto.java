@@ -0,0 +1,21 @@
+package com.dev.restaurant.domain.dtos;
+
+import com.dev.restaurant.domain.PhotoUploadStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhotoUploadDto {
+    private String id;
+    private PhotoUploadStatus status;
+    private PhotoDto photo;
+    private String error;
+    private LocalDateTime submittedAt;
+}
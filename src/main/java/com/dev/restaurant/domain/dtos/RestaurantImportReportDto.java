@@ -0,0 +1,19 @@
+package com.dev.restaurant.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantImportReportDto {
+    private long total;
+    private long created;
+    private long failed;
+    private List<RestaurantImportRowResultDto> rows;
+}
@@ -0,0 +1,20 @@
+package com.dev.restaurant.domain.dtos;
+
+import com.dev.restaurant.domain.RestaurantImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantImportRowResultDto {
+    private long row;
+    private RestaurantImportRowStatus status;
+    private String restaurantId;
+    private List<String> errors;
+}
@@ -0,0 +1,24 @@
+package com.dev.restaurant.domain.dtos;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchProfileDto {
+    private String queryType;
+    @JsonRawValue
+    private String query;
+    private long tookMillis;
+    private long totalHits;
+    private int totalShards;
+    private int successfulShards;
+    private int failedShards;
+    @JsonRawValue
+    private String profile;
+}
@@ -19,6 +19,9 @@ public class Photo {
     @Field(type = FieldType.Keyword)
     private String url;
 
+    @Field(type = FieldType.Keyword)
+    private String checksum;
+
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
     private LocalDateTime uploadDate;
 }
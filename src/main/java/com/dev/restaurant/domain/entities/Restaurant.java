@@ -5,16 +5,22 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.GeoPointField;
+import org.springframework.data.elasticsearch.annotations.IndexedIndexName;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-@Document(indexName = "restaurants")
+@Document(indexName = "restaurants", createIndex = false)
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,10 +30,19 @@ public class Restaurant {
     @Id
     private String id;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "folding"),
+            otherFields = {
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer"),
+                    @InnerField(suffix = "prefix", type = FieldType.Text, analyzer = "prefix_index", searchAnalyzer = "folding")
+            }
+    )
     private String name;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "folding"),
+            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer")
+    )
     private String cuisineType;
 
     @Field(type = FieldType.Keyword)
@@ -36,6 +51,15 @@ public class Restaurant {
     @Field(type = FieldType.Float)
     private Float averageRating;
 
+    @Field(type = FieldType.Integer)
+    private Integer totalReviews;
+
+    @Field(type = FieldType.Long)
+    private Long ratingSum;
+
+    @Field(type = FieldType.Object)
+    private Map<String, Integer> ratingHistogram;
+
     @GeoPointField
     private GeoPoint geoLocation;
 
@@ -53,4 +77,12 @@ public class Restaurant {
 
     @Field(type = FieldType.Nested)
     private User createdBy;
+
+    private SeqNoPrimaryTerm seqNoPrimaryTerm;
+
+    @IndexedIndexName
+    private String indexName;
+
+    @Transient
+    private Double distanceKm;
 }
@@ -4,23 +4,31 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@Document(indexName = "reviews")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Review {
 
+    @Id
     @Field(type = FieldType.Keyword)
     private String id;
 
+    @Field(type = FieldType.Keyword)
+    private String restaurantId;
+
     @Field(type = FieldType.Text)
     private String content;
 
@@ -38,4 +46,6 @@ public class Review {
 
     @Field(type = FieldType.Nested)
     private User writtenBy;
+
+    private SeqNoPrimaryTerm seqNoPrimaryTerm;
 }
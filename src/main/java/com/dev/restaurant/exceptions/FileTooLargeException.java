@@ -0,0 +1,19 @@
+package com.dev.restaurant.exceptions;
+
+public class FileTooLargeException extends BaseException {
+
+    public FileTooLargeException() {
+    }
+
+    public FileTooLargeException(String message) {
+        super(message);
+    }
+
+    public FileTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public FileTooLargeException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.restaurant.exceptions;
+
+public class InvalidSearchException extends BaseException {
+
+    public InvalidSearchException() {
+    }
+
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+
+    public InvalidSearchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidSearchException(Throwable cause) {
+        super(cause);
+    }
+}
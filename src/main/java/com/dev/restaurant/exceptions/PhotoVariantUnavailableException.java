@@ -0,0 +1,19 @@
+package com.dev.restaurant.exceptions;
+
+public class PhotoVariantUnavailableException extends BaseException {
+
+    public PhotoVariantUnavailableException() {
+    }
+
+    public PhotoVariantUnavailableException(String message) {
+        super(message);
+    }
+
+    public PhotoVariantUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public PhotoVariantUnavailableException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.restaurant.exceptions;
+
+public class UploadRejectedException extends BaseException {
+
+    public UploadRejectedException() {
+    }
+
+    public UploadRejectedException(String message) {
+        super(message);
+    }
+
+    public UploadRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public UploadRejectedException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -1,6 +1,8 @@
 package com.dev.restaurant.mappers;
 
+import com.dev.restaurant.domain.PhotoUpload;
 import com.dev.restaurant.domain.dtos.PhotoDto;
+import com.dev.restaurant.domain.dtos.PhotoUploadDto;
 import com.dev.restaurant.domain.entities.Photo;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -9,4 +11,6 @@ import org.mapstruct.ReportingPolicy;
 public interface PhotoMapper {
 
     PhotoDto toDto(Photo photo);
+
+    PhotoUploadDto toDto(PhotoUpload photoUpload);
 }
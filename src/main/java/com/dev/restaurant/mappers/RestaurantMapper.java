@@ -1,35 +1,38 @@
 package com.dev.restaurant.mappers;
 
+import com.dev.restaurant.domain.CursorPage;
+import com.dev.restaurant.domain.RestaurantImportReport;
+import com.dev.restaurant.domain.SearchProfile;
+import com.dev.restaurant.domain.dtos.CursorPageDto;
 import com.dev.restaurant.domain.dtos.GeoPointDto;
 import com.dev.restaurant.domain.dtos.RestaurantCreateUpdateRequestDto;
 import com.dev.restaurant.domain.dtos.RestaurantDto;
+import com.dev.restaurant.domain.dtos.RestaurantImportReportDto;
 import com.dev.restaurant.domain.dtos.RestaurantSummaryDto;
+import com.dev.restaurant.domain.dtos.SearchProfileDto;
 import com.dev.restaurant.domain.entities.Restaurant;
-import com.dev.restaurant.domain.entities.Review;
 import com.dev.restaurant.domain.requests.RestaurantCreateUpdateRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring", unmappedSourcePolicy = ReportingPolicy.IGNORE)
 public interface RestaurantMapper {
 
     RestaurantCreateUpdateRequest toRestaurantCreateUpdateRequest(RestaurantCreateUpdateRequestDto dto);
 
-    @Mapping(target = "totalReviews", source = "reviews", qualifiedByName = "populateTotalReviews")
     RestaurantDto toRestaurantDto(Restaurant restaurant);
 
-    @Mapping(target = "totalReviews", source = "reviews", qualifiedByName = "populateTotalReviews")
     RestaurantSummaryDto toRestaurantSummaryDto(Restaurant restaurant);
 
-    @Named("populateTotalReviews")
-    default Integer populateTotalReviews(List<Review> reviews) {
-        return reviews.size();
-    }
+    @Mapping(target = "nextCursor", expression = "java(null == page.getNextCursor() ? null : page.getNextCursor().encode())")
+    @Mapping(target = "totalElements", source = "totalHits")
+    CursorPageDto<RestaurantSummaryDto> toCursorPageDto(CursorPage<RestaurantSummaryDto> page);
+
+    RestaurantImportReportDto toRestaurantImportReportDto(RestaurantImportReport report);
+
+    SearchProfileDto toSearchProfileDto(SearchProfile profile);
 
     @Mapping(target = "latitude", expression = "java(geoPoint.getLat())")
     @Mapping(target = "longitude", expression = "java(geoPoint.getLon())")
@@ -0,0 +1,71 @@
+package com.dev.restaurant.migrations;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.repositories.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "app.reviews.migrate-embedded", havingValue = "true")
+@Order(0)
+@RequiredArgsConstructor
+@Slf4j
+public class EmbeddedReviewMigration implements ApplicationRunner {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AtomicInteger migratedRestaurants = new AtomicInteger();
+        AtomicInteger migratedReviews = new AtomicInteger();
+
+        try (Stream<Restaurant> restaurants = restaurantRepository.findAllWithEmbeddedReviews()) {
+            restaurants.forEach(restaurant -> {
+                migratedReviews.addAndGet(migrate(restaurant));
+                migratedRestaurants.incrementAndGet();
+            });
+        }
+
+        log.info("Migrated {} embedded reviews from {} restaurants",
+                migratedReviews.get(), migratedRestaurants.get());
+    }
+
+    private int migrate(Restaurant restaurant) {
+        List<Review> reviews = new ArrayList<>(restaurant.getReviews());
+
+        reviews.forEach(review -> {
+            if (null == review.getId()) {
+                review.setId(UUID.randomUUID().toString());
+            }
+            review.setRestaurantId(restaurant.getId());
+        });
+
+        reviewRepository.saveAll(reviews);
+
+        restaurant.setTotalReviews(0);
+        restaurant.setRatingSum(0L);
+        restaurant.setRatingHistogram(new HashMap<>());
+        RatingDelta.ofRatings(reviews.stream().map(Review::getRating).toList()).applyTo(restaurant);
+
+        restaurant.setReviews(new ArrayList<>());
+        restaurantRepository.save(restaurant);
+
+        return reviews.size();
+    }
+}
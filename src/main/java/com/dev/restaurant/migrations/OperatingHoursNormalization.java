@@ -0,0 +1,88 @@
+package com.dev.restaurant.migrations;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
+import co.elastic.clients.json.JsonData;
+import com.dev.restaurant.domain.entities.Restaurant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+@ConditionalOnProperty(name = "app.restaurants.normalize-operating-hours", havingValue = "true")
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class OperatingHoursNormalization implements ApplicationRunner {
+
+    private static final String NORMALIZE_OPERATING_HOURS_SCRIPT = """
+            boolean changed = false;
+            def operatingHours = ctx._source.operatingHours;
+            if (operatingHours != null) {
+                for (day in operatingHours.values()) {
+                    if (day == null) {
+                        continue;
+                    }
+                    for (field in ['openTime', 'closeTime']) {
+                        def time = day.get(field);
+                        if (time != null && time.length() == 4 && time.indexOf(':') == 1) {
+                            day.put(field, '0' + time);
+                            changed = true;
+                        }
+                    }
+                }
+            }
+            if (!changed && params.noopWhenUnchanged) {
+                ctx.op = 'noop';
+            }
+            """;
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    static Script script(boolean noopWhenUnchanged) {
+        return Script.of(script -> script
+                .lang("painless")
+                .source(NORMALIZE_OPERATING_HOURS_SCRIPT)
+                .params("noopWhenUnchanged", JsonData.of(noopWhenUnchanged)));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String index = Restaurant.class.getAnnotation(Document.class).indexName();
+
+        UpdateByQueryResponse response;
+        try {
+            response = elasticsearchClient.updateByQuery(update -> update
+                    .index(index)
+                    .script(script(true))
+                    .conflicts(Conflicts.Proceed)
+                    .refresh(true)
+                    .waitForCompletion(true));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to normalize operating hours in " + index, e);
+        }
+
+        if (!response.failures().isEmpty()) {
+            throw new DataAccessResourceFailureException(
+                    "Normalizing operating hours in " + index + " failed: " + response.failures().get(0).cause().reason());
+        }
+
+        log.info("Normalized operating hours of {} restaurants ({} already normalized)",
+                response.updated(), response.noops());
+
+        if (null != response.versionConflicts() && response.versionConflicts() > 0) {
+            log.warn("Skipped {} restaurants changed during normalization; run it again to cover them",
+                    response.versionConflicts());
+        }
+    }
+}
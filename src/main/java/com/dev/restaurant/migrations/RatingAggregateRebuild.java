@@ -0,0 +1,58 @@
+package com.dev.restaurant.migrations;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.repositories.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "app.reviews.rebuild-rating-aggregates", havingValue = "true")
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class RatingAggregateRebuild implements ApplicationRunner {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AtomicInteger rebuiltRestaurants = new AtomicInteger();
+
+        try (Stream<Restaurant> restaurants = restaurantRepository.streamAllBy()) {
+            restaurants.forEach(restaurant -> {
+                rebuild(restaurant);
+                rebuiltRestaurants.incrementAndGet();
+            });
+        }
+
+        log.info("Rebuilt rating aggregates for {} restaurants", rebuiltRestaurants.get());
+    }
+
+    private void rebuild(Restaurant restaurant) {
+        List<Integer> ratings;
+        try (Stream<Review> reviews = reviewRepository.findByRestaurantId(restaurant.getId())) {
+            ratings = reviews.map(Review::getRating).toList();
+        }
+
+        restaurant.setTotalReviews(0);
+        restaurant.setRatingSum(0L);
+        restaurant.setRatingHistogram(new HashMap<>());
+        RatingDelta.ofRatings(ratings).applyTo(restaurant);
+
+        restaurantRepository.save(restaurant);
+    }
+}
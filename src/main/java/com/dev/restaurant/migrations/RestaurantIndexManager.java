@@ -0,0 +1,390 @@
+package com.dev.restaurant.migrations;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.OpType;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.ReindexResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "app.index.management.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RestaurantIndexManager implements SmartLifecycle {
+
+    private static final String TEMPLATE_RESOURCE = "elasticsearch/restaurants-index-template.json";
+    private static final int CONFLICT = 409;
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int DELETE_SCAN_BATCH_SIZE = 1000;
+    private static final String DELETE_SCAN_KEEP_ALIVE = "1m";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ObjectMapper objectMapper;
+    private final String alias;
+    private final String lockIndex;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final int version;
+    private final int shards;
+    private final int replicas;
+    private final String refreshInterval;
+    private final boolean deletePrevious;
+    private final Duration lockTimeout;
+    private volatile boolean running;
+
+    public RestaurantIndexManager(
+            ElasticsearchClient elasticsearchClient,
+            ObjectMapper objectMapper,
+            @Value("${app.index.restaurants.version:1}") int version,
+            @Value("${app.index.restaurants.shards:1}") int shards,
+            @Value("${app.index.restaurants.replicas:1}") int replicas,
+            @Value("${app.index.restaurants.refresh-interval:1s}") String refreshInterval,
+            @Value("${app.index.restaurants.delete-previous:false}") boolean deletePrevious,
+            @Value("${app.index.management.lock-timeout:30m}") Duration lockTimeout
+    ) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.objectMapper = objectMapper;
+        this.alias = Restaurant.class.getAnnotation(Document.class).indexName();
+        this.lockIndex = alias + "_migrations";
+        this.version = version;
+        this.shards = shards;
+        this.replicas = replicas;
+        this.refreshInterval = refreshInterval;
+        this.deletePrevious = deletePrevious;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public void start() {
+        String targetIndex = alias + "_v" + version;
+
+        try {
+            putIndexTemplate();
+
+            if (!aliasPointsTo(targetIndex)) {
+                if (!acquireLock(targetIndex)) {
+                    awaitIndex();
+                    log.info("Another instance is migrating {}; serving from the current alias", targetIndex);
+                    running = true;
+                    return;
+                }
+                try {
+                    migrate(targetIndex);
+                } finally {
+                    releaseLock(targetIndex);
+                }
+            }
+
+            restoreRefreshInterval();
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to manage index " + targetIndex, e);
+        }
+
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void putIndexTemplate() throws IOException {
+        ObjectNode template;
+        try (InputStream inputStream = new ClassPathResource(TEMPLATE_RESOURCE).getInputStream()) {
+            template = (ObjectNode) objectMapper.readTree(inputStream);
+        }
+
+        template.put("version", version);
+        template.putArray("index_patterns").add(alias + "_v*");
+
+        ObjectNode settings = (ObjectNode) template.path("template").path("settings");
+        settings.put("number_of_shards", shards);
+        settings.put("number_of_replicas", replicas);
+        settings.put("refresh_interval", refreshInterval);
+
+        String json = objectMapper.writeValueAsString(template);
+        elasticsearchClient.indices().putIndexTemplate(put -> put
+                .name(alias)
+                .withJson(new StringReader(json)));
+    }
+
+    private boolean aliasPointsTo(String targetIndex) throws IOException {
+        return elasticsearchClient.indices().existsAlias(exists -> exists.name(alias)).value()
+                && elasticsearchClient.indices().getAlias(get -> get.name(alias)).result().keySet().equals(Set.of(targetIndex));
+    }
+
+    private void migrate(String targetIndex) throws IOException {
+        if (!elasticsearchClient.indices().exists(exists -> exists.index(targetIndex)).value()) {
+            elasticsearchClient.indices().create(create -> create.index(targetIndex));
+            log.info("Created index {}", targetIndex);
+        }
+
+        boolean aliasExists = elasticsearchClient.indices().existsAlias(exists -> exists.name(alias)).value();
+        Set<String> currentIndices = aliasExists
+                ? elasticsearchClient.indices().getAlias(get -> get.name(alias)).result().keySet()
+                : Set.of();
+
+        if (currentIndices.equals(Set.of(targetIndex))) {
+            return;
+        }
+
+        boolean concreteIndex = !aliasExists && elasticsearchClient.indices().exists(exists -> exists.index(alias)).value();
+        List<String> sourceIndices = concreteIndex ? List.of(alias) : List.copyOf(currentIndices);
+
+        blockWrites(targetIndex, false);
+        for (String sourceIndex : sourceIndices) {
+            reindex(sourceIndex, targetIndex);
+            renewLock(targetIndex);
+        }
+
+        for (String sourceIndex : sourceIndices) {
+            blockWrites(sourceIndex, true);
+        }
+        try {
+            for (String sourceIndex : sourceIndices) {
+                reindex(sourceIndex, targetIndex);
+                renewLock(targetIndex);
+            }
+            deleteMissing(sourceIndices, targetIndex);
+            swapAlias(sourceIndices, concreteIndex, targetIndex);
+        } finally {
+            for (String sourceIndex : sourceIndices) {
+                blockWrites(sourceIndex, false);
+            }
+        }
+
+        if (deletePrevious && !concreteIndex) {
+            for (String previousIndex : sourceIndices) {
+                elasticsearchClient.indices().delete(delete -> delete.index(previousIndex));
+            }
+        }
+    }
+
+    private void reindex(String sourceIndex, String targetIndex) throws IOException {
+        ReindexResponse response = elasticsearchClient.reindex(reindex -> reindex
+                .source(source -> source.index(sourceIndex))
+                .dest(dest -> dest.index(targetIndex).versionType(VersionType.External))
+                .script(OperatingHoursNormalization.script(false))
+                .conflicts(Conflicts.Proceed)
+                .refresh(true)
+                .waitForCompletion(true));
+
+        if (!response.failures().isEmpty()) {
+            throw new DataAccessResourceFailureException(
+                    "Reindex from " + sourceIndex + " to " + targetIndex + " failed: " + response.failures().get(0).cause().reason());
+        }
+
+        log.info("Copied {} of {} documents from {} to {}", response.created() + response.updated(), response.total(),
+                sourceIndex, targetIndex);
+    }
+
+    private void deleteMissing(List<String> sourceIndices, String targetIndex) throws IOException {
+        if (sourceIndices.isEmpty()) {
+            return;
+        }
+
+        String pitId = elasticsearchClient.openPointInTime(open -> open
+                .index(targetIndex)
+                .keepAlive(keepAlive -> keepAlive.time(DELETE_SCAN_KEEP_ALIVE))).id();
+        long deleted = 0;
+        try {
+            List<FieldValue> searchAfter = null;
+            while (true) {
+                List<FieldValue> after = searchAfter;
+                SearchResponse<Void> page = elasticsearchClient.search(search -> {
+                    search
+                            .pit(pit -> pit.id(pitId).keepAlive(keepAlive -> keepAlive.time(DELETE_SCAN_KEEP_ALIVE)))
+                            .size(DELETE_SCAN_BATCH_SIZE)
+                            .source(source -> source.fetch(false))
+                            .sort(sort -> sort.field(field -> field.field("_shard_doc")));
+                    return null == after ? search : search.searchAfter(after);
+                }, Void.class);
+
+                List<Hit<Void>> hits = page.hits().hits();
+                if (hits.isEmpty()) {
+                    break;
+                }
+
+                deleted += deleteMissingBatch(sourceIndices, targetIndex, hits.stream().map(Hit::id).toList());
+                searchAfter = hits.get(hits.size() - 1).sort();
+            }
+        } finally {
+            elasticsearchClient.closePointInTime(close -> close.id(pitId));
+        }
+
+        log.info("Deleted {} documents from {} that no longer exist in {}", deleted, targetIndex, sourceIndices);
+    }
+
+    private int deleteMissingBatch(List<String> sourceIndices, String targetIndex, List<String> ids) throws IOException {
+        SearchResponse<Void> existing = elasticsearchClient.search(search -> search
+                .index(sourceIndices)
+                .size(ids.size() * sourceIndices.size())
+                .source(source -> source.fetch(false))
+                .query(query -> query.ids(byIds -> byIds.values(ids))), Void.class);
+
+        Set<String> existingIds = existing.hits().hits().stream().map(Hit::id).collect(Collectors.toSet());
+        List<String> missingIds = ids.stream().filter(id -> !existingIds.contains(id)).toList();
+        if (missingIds.isEmpty()) {
+            return 0;
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(bulk -> {
+            missingIds.forEach(id -> bulk.operations(operation -> operation
+                    .delete(delete -> delete.index(targetIndex).id(id))));
+            return bulk.refresh(Refresh.True);
+        });
+
+        if (response.errors()) {
+            throw new DataAccessResourceFailureException("Deleting stale documents from " + targetIndex + " failed: "
+                    + response.items().stream()
+                            .filter(item -> null != item.error())
+                            .findFirst()
+                            .map(item -> item.error().reason())
+                            .orElse("unknown error"));
+        }
+
+        return missingIds.size();
+    }
+
+    private void blockWrites(String index, boolean blocked) throws IOException {
+        elasticsearchClient.indices().putSettings(settings -> settings
+                .index(index)
+                .settings(setting -> setting.blocks(blocks -> blocks.write(blocked))));
+    }
+
+    private void swapAlias(List<String> sourceIndices, boolean concreteIndex, String targetIndex) throws IOException {
+        elasticsearchClient.indices().updateAliases(update -> {
+            if (concreteIndex) {
+                update.actions(action -> action.removeIndex(remove -> remove.index(alias)));
+            } else {
+                sourceIndices.forEach(previousIndex -> update.actions(action -> action
+                        .remove(remove -> remove.index(previousIndex).alias(alias))));
+            }
+            return update.actions(action -> action
+                    .add(add -> add.index(targetIndex).alias(alias).isWriteIndex(true)));
+        });
+
+        log.info("Alias {} now points to {}", alias, targetIndex);
+    }
+
+    private void restoreRefreshInterval() throws IOException {
+        elasticsearchClient.indices().putSettings(settings -> settings
+                .index(alias)
+                .settings(index -> index.refreshInterval(interval -> interval.time(refreshInterval))));
+    }
+
+    private boolean acquireLock(String targetIndex) throws IOException {
+        if (createLock(targetIndex)) {
+            return true;
+        }
+
+        GetResponse<MigrationLock> existing = elasticsearchClient.get(get -> get
+                .index(lockIndex)
+                .id(targetIndex), MigrationLock.class);
+        if (!existing.found() || null == existing.source()
+                || System.currentTimeMillis() - existing.source().acquiredAt() < lockTimeout.toMillis()) {
+            return false;
+        }
+
+        log.warn("Taking over stale migration lock on {} held by {}", targetIndex, existing.source().owner());
+        try {
+            elasticsearchClient.delete(delete -> delete
+                    .index(lockIndex)
+                    .id(targetIndex)
+                    .ifSeqNo(existing.seqNo())
+                    .ifPrimaryTerm(existing.primaryTerm()));
+        } catch (ElasticsearchException e) {
+            if (CONFLICT == e.status()) {
+                return false;
+            }
+            throw e;
+        }
+        return createLock(targetIndex);
+    }
+
+    private boolean createLock(String targetIndex) throws IOException {
+        try {
+            elasticsearchClient.index(index -> index
+                    .index(lockIndex)
+                    .id(targetIndex)
+                    .opType(OpType.Create)
+                    .refresh(Refresh.True)
+                    .document(new MigrationLock(owner, System.currentTimeMillis())));
+            return true;
+        } catch (ElasticsearchException e) {
+            if (CONFLICT == e.status()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void renewLock(String targetIndex) throws IOException {
+        elasticsearchClient.index(index -> index
+                .index(lockIndex)
+                .id(targetIndex)
+                .refresh(Refresh.True)
+                .document(new MigrationLock(owner, System.currentTimeMillis())));
+    }
+
+    private void awaitIndex() throws IOException {
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+        while (!elasticsearchClient.indices().exists(exists -> exists.index(alias)).value()) {
+            if (System.nanoTime() > deadline) {
+                throw new DataAccessResourceFailureException("Timed out waiting for another instance to create " + alias);
+            }
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessResourceFailureException("Interrupted while waiting for " + alias, e);
+            }
+        }
+    }
+
+    private void releaseLock(String targetIndex) {
+        try {
+            elasticsearchClient.delete(delete -> delete.index(lockIndex).id(targetIndex).refresh(Refresh.True));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not release migration lock on {}; it expires after {}", targetIndex, lockTimeout, e);
+        }
+    }
+
+    record MigrationLock(String owner, long acquiredAt) {
+    }
+}
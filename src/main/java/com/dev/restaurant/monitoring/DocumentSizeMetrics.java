@@ -0,0 +1,89 @@
+package com.dev.restaurant.monitoring;
+
+import com.dev.restaurant.domain.entities.Restaurant;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.elasticsearch.client.RestClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.elasticsearch.RestClientBuilderCustomizer;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+@Component
+public class DocumentSizeMetrics implements RestClientBuilderCustomizer {
+
+    private final Pattern documentWritePath;
+    private final double sampleRate;
+    private final DistributionSummary documentSize;
+
+    public DocumentSizeMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.document-size.sample-rate:0.01}") double sampleRate
+    ) {
+        String index = Restaurant.class.getAnnotation(Document.class).indexName();
+        this.documentWritePath = Pattern.compile("^/" + Pattern.quote(index) + "(_v\\d+)?/(_doc|_create)(/.*)?$");
+        this.sampleRate = sampleRate;
+        this.documentSize = DistributionSummary.builder("restaurant.document.size")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(256.0)
+                .maximumExpectedValue(16.0 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void customize(RestClientBuilder builder) {
+    }
+
+    @Override
+    public void customize(HttpAsyncClientBuilder builder) {
+        builder.addInterceptorLast((HttpRequestInterceptor) (request, context) -> record(request));
+    }
+
+    private void record(HttpRequest request) throws IOException {
+        if (!(request instanceof HttpEntityEnclosingRequest enclosingRequest)
+                || null == enclosingRequest.getEntity()
+                || ThreadLocalRandom.current().nextDouble() >= sampleRate
+                || !documentWritePath.matcher(URI.create(request.getRequestLine().getUri()).getPath()).matches()) {
+            return;
+        }
+
+        HttpEntity entity = enclosingRequest.getEntity();
+        long length = entity.getContentLength();
+        if (length < 0 && entity.isRepeatable()) {
+            ByteCountingOutputStream counter = new ByteCountingOutputStream();
+            entity.writeTo(counter);
+            length = counter.count;
+        }
+
+        if (length >= 0) {
+            documentSize.record(length);
+        }
+    }
+
+    private static final class ByteCountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
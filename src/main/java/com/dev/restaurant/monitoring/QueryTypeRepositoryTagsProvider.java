@@ -0,0 +1,39 @@
+package com.dev.restaurant.monitoring;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryTypeRepositoryTagsProvider implements RepositoryTagsProvider {
+
+    private final RepositoryTagsProvider defaultTagsProvider = new DefaultRepositoryTagsProvider();
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        return Tags.of(defaultTagsProvider.repositoryTags(invocation))
+                .and("query.type", queryType(invocation.getMethod().getName()));
+    }
+
+    private static String queryType(String methodName) {
+        if (methodName.startsWith("search") || methodName.endsWith("Summaries")) {
+            return "search";
+        }
+        if (methodName.startsWith("findAll") || methodName.startsWith("streamAll") || methodName.startsWith("count")) {
+            return "findAll";
+        }
+        if (methodName.startsWith("find") || methodName.startsWith("exists")) {
+            return "lookup";
+        }
+        if (methodName.startsWith("delete")) {
+            return "delete";
+        }
+        if (methodName.startsWith("save") || methodName.startsWith("bulk") || methodName.startsWith("apply")) {
+            return "write";
+        }
+        return "other";
+    }
+}
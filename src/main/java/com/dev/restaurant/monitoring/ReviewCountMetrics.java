@@ -0,0 +1,64 @@
+package com.dev.restaurant.monitoring;
+
+import com.dev.restaurant.domain.ReviewCountStatistics;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.metrics.review-counts.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ReviewCountMetrics {
+
+    private final RestaurantRepository restaurantRepository;
+    private final int topRestaurants;
+    private final MultiGauge reviewCountQuantiles;
+    private final MultiGauge mostReviewed;
+
+    public ReviewCountMetrics(
+            RestaurantRepository restaurantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.review-counts.top-restaurants:10}") int topRestaurants
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.topRestaurants = topRestaurants;
+        this.reviewCountQuantiles = MultiGauge.builder("restaurant.reviews.per.restaurant")
+                .description("Review count per restaurant across the index")
+                .register(meterRegistry);
+        this.mostReviewed = MultiGauge.builder("restaurant.reviews.top")
+                .description("Review count of the most reviewed restaurants")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.metrics.review-counts.refresh-interval:1m}",
+            fixedDelayString = "${app.metrics.review-counts.refresh-interval:1m}"
+    )
+    public void refresh() {
+        ReviewCountStatistics statistics;
+        try {
+            statistics = restaurantRepository.reviewCountStatistics(topRestaurants);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh review count metrics", e);
+            return;
+        }
+
+        reviewCountQuantiles.register(statistics.quantiles().entrySet().stream()
+                .filter(quantile -> null != quantile.getValue())
+                .map(quantile -> MultiGauge.Row.of(Tags.of("percentile", quantile.getKey()), quantile.getValue()))
+                .toList(), true);
+
+        mostReviewed.register(statistics.mostReviewed().stream()
+                .map(restaurant -> MultiGauge.Row.of(
+                        Tags.of("restaurant", restaurant.getId()),
+                        null == restaurant.getTotalReviews() ? 0 : restaurant.getTotalReviews()
+                ))
+                .toList(), true);
+    }
+}
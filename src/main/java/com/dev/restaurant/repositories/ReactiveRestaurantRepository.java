@@ -0,0 +1,9 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.entities.Restaurant;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveRestaurantRepository extends ReactiveElasticsearchRepository<Restaurant, String>, ReactiveRestaurantRepositoryCustom {
+}
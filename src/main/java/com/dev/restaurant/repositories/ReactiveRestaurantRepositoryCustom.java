@@ -0,0 +1,10 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.entities.Restaurant;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveRestaurantRepositoryCustom {
+
+    Flux<Restaurant> streamSummaries(RestaurantSearchCriteria criteria);
+}
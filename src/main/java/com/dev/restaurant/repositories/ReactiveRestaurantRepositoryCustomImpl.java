@@ -0,0 +1,22 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.entities.Restaurant;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import reactor.core.publisher.Flux;
+
+public class ReactiveRestaurantRepositoryCustomImpl implements ReactiveRestaurantRepositoryCustom {
+
+    private final ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+
+    public ReactiveRestaurantRepositoryCustomImpl(ReactiveElasticsearchOperations reactiveElasticsearchOperations) {
+        this.reactiveElasticsearchOperations = reactiveElasticsearchOperations;
+    }
+
+    @Override
+    public Flux<Restaurant> streamSummaries(RestaurantSearchCriteria criteria) {
+        return reactiveElasticsearchOperations
+                .search(RestaurantSearchQueryBuilder.summaryQuery(criteria).build(), Restaurant.class)
+                .map(hit -> RestaurantSearchQueryBuilder.toSummary(criteria, hit));
+    }
+}
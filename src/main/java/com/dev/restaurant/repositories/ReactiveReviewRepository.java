@@ -0,0 +1,13 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.entities.Review;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveReviewRepository extends ReactiveElasticsearchRepository<Review, String> {
+
+    Flux<Review> findByRestaurantId(String restaurantId, Sort sort);
+}
@@ -1,48 +1,22 @@
 package com.dev.restaurant.repositories;
 
 import com.dev.restaurant.domain.entities.Restaurant;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.stereotype.Repository;
 
-@Repository
-public interface RestaurantRepository extends ElasticsearchRepository<Restaurant, String> {
+import java.util.stream.Stream;
 
-    Page<Restaurant> findByAverageRatingGreaterThanEqual(Float minRating, Pageable pageable);
+@Repository
+public interface RestaurantRepository extends ElasticsearchRepository<Restaurant, String>, RestaurantRepositoryCustom {
 
     @Query("{" +
-            "  \"bool\": {" +
-            "    \"must\": [" +
-            "      {\"range\": {\"averageRating\": {\"gte\": ?1}}}" +
-            "    ]," +
-            "    \"should\": [" +
-            "      {\"fuzzy\": {\"name\": {\"value\": \"?0\", \"fuzziness\": \"AUTO\"}}}," +
-            "      {\"fuzzy\": {\"cuisineType\": {\"value\": \"?0\", \"fuzziness\": \"AUTO\"}}}" +
-            "    ]," +
-            "    \"minimum_should_match\": 1" +
+            "  \"nested\": {" +
+            "    \"path\": \"reviews\"," +
+            "    \"query\": {\"exists\": {\"field\": \"reviews.id\"}}" +
             "  }" +
-            "}" +
             "}")
-    Page<Restaurant> findByQueryAndMinRating(String query, Float minRating, Pageable pageable);
+    Stream<Restaurant> findAllWithEmbeddedReviews();
 
-    @Query("{" +
-            "  \"bool\": {" +
-            "    \"must\": [" +
-            "      {\"geo_distance\": {" +
-            "        \"distance\": \"?2km\"," +
-            "        \"geoLocation\": {" +
-            "          \"lat\": ?0," +
-            "          \"lon\": ?1" +
-            "        }" +
-            "      }}" +
-            "    ]" +
-            "  }" +
-            "}")
-    Page<Restaurant> findByLocationNear(
-            Float latitude,
-            Float longitude,
-            Float radiusKm,
-            Pageable pageable);
+    Stream<Restaurant> streamAllBy();
 }
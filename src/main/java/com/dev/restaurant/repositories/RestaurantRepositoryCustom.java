@@ -0,0 +1,33 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.CursorPage;
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.ReviewCountStatistics;
+import com.dev.restaurant.domain.SearchProfile;
+import com.dev.restaurant.domain.SearchCursor;
+import com.dev.restaurant.domain.entities.Restaurant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+public interface RestaurantRepositoryCustom {
+
+    Page<Restaurant> searchSummaries(RestaurantSearchCriteria criteria, Pageable pageable);
+
+    CursorPage<Restaurant> searchSummariesAfter(RestaurantSearchCriteria criteria, SearchCursor cursor, int size);
+
+    SearchProfile profileSearch(RestaurantSearchCriteria criteria, Pageable pageable);
+
+    void applyRatingDelta(String restaurantId, RatingDelta delta);
+
+    Map<String, String> bulkIndex(List<Restaurant> restaurants);
+
+    ReviewCountStatistics reviewCountStatistics(int topRestaurants);
+
+    void suspendRefresh();
+
+    void resumeRefresh();
+}
@@ -0,0 +1,382 @@
+package com.dev.restaurant.repositories;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.dev.restaurant.domain.CursorPage;
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.ReviewCountStatistics;
+import com.dev.restaurant.domain.SearchCursor;
+import com.dev.restaurant.domain.SearchProfile;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.exceptions.InvalidSearchException;
+import co.elastic.clients.elasticsearch._types.ShardStatistics;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.json.JsonpSerializable;
+import co.elastic.clients.json.JsonpUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RestaurantRepositoryCustomImpl implements RestaurantRepositoryCustom {
+
+    private static final String APPLY_RATING_DELTA_SCRIPT = """
+            def source = ctx._source;
+            long totalReviews = (source.totalReviews == null ? 0 : source.totalReviews) + params.reviewCount;
+            long ratingSum = (source.ratingSum == null ? 0 : source.ratingSum) + params.ratingSum;
+            if (source.ratingHistogram == null) {
+                source.ratingHistogram = new HashMap();
+            }
+            for (entry in params.histogram.entrySet()) {
+                def current = source.ratingHistogram.get(entry.getKey());
+                source.ratingHistogram.put(entry.getKey(), (current == null ? 0 : current) + entry.getValue());
+            }
+            source.totalReviews = totalReviews;
+            source.ratingSum = ratingSum;
+            source.averageRating = totalReviews > 0 ? (float) ratingSum / totalReviews : 0.0f;
+            """;
+
+    private static final int RATING_UPDATE_RETRIES_ON_CONFLICT = 3;
+
+    private static final String REVIEW_COUNT_PERCENTILES = "reviewCountPercentiles";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final MeterRegistry meterRegistry;
+    private final int trackTotalHitsUpTo;
+    private final Duration cursorKeepAlive;
+    private final Duration slowQueryThreshold;
+    private final String restoredRefreshInterval;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private int refreshSuspensions;
+
+    public RestaurantRepositoryCustomImpl(
+            ElasticsearchOperations elasticsearchOperations,
+            ElasticsearchClient elasticsearchClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.search.track-total-hits-up-to:10000}") int trackTotalHitsUpTo,
+            @Value("${app.search.cursor-keep-alive:1m}") Duration cursorKeepAlive,
+            @Value("${app.search.slow-query-threshold:500ms}") Duration slowQueryThreshold,
+            @Value("${app.index.restaurants.refresh-interval:1s}") String restoredRefreshInterval
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.meterRegistry = meterRegistry;
+        this.trackTotalHitsUpTo = trackTotalHitsUpTo;
+        this.cursorKeepAlive = cursorKeepAlive;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.restoredRefreshInterval = restoredRefreshInterval;
+    }
+
+    @Override
+    public Page<Restaurant> searchSummaries(RestaurantSearchCriteria criteria, Pageable pageable) {
+        NativeQuery query = withTrackTotalHits(RestaurantSearchQueryBuilder.summaryQuery(criteria))
+                .withPageable(pageable)
+                .build();
+
+        SearchHits<Restaurant> searchHits = search("page", criteria, query);
+
+        return new PageImpl<>(
+                searchHits.stream().map(hit -> RestaurantSearchQueryBuilder.toSummary(criteria, hit)).toList(),
+                pageable,
+                searchHits.getTotalHits()
+        );
+    }
+
+    @Override
+    public CursorPage<Restaurant> searchSummariesAfter(RestaurantSearchCriteria criteria, SearchCursor cursor, int size) {
+        boolean firstPage = null == cursor;
+
+        NativeQueryBuilder queryBuilder = RestaurantSearchQueryBuilder.summaryQuery(criteria)
+                .withMaxResults(size);
+
+        if (firstPage) {
+            withTrackTotalHits(queryBuilder);
+        } else {
+            queryBuilder
+                    .withTrackTotalHits(false)
+                    .withSearchAfter(cursor.getSearchAfter());
+        }
+
+        String pitId = firstPage
+                ? elasticsearchOperations.openPointInTime(
+                        elasticsearchOperations.getIndexCoordinatesFor(Restaurant.class), cursorKeepAlive)
+                : cursor.getPitId();
+
+        SearchHits<Restaurant> searchHits;
+        List<SearchHit<Restaurant>> hits;
+        String nextPitId;
+        SearchCursor nextCursor = null;
+        try {
+            queryBuilder.withPointInTime(new Query.PointInTime(pitId, cursorKeepAlive));
+            try {
+                searchHits = search("cursor", criteria, queryBuilder.build());
+            } catch (ResourceNotFoundException e) {
+                throw new InvalidSearchException("Search cursor has expired", e);
+            }
+
+            hits = searchHits.getSearchHits();
+            nextPitId = null == searchHits.getPointInTimeId() ? pitId : searchHits.getPointInTimeId();
+
+            if (hits.size() >= size) {
+                nextCursor = SearchCursor.builder()
+                        .pitId(nextPitId)
+                        .searchAfter(hits.get(hits.size() - 1).getSortValues())
+                        .build();
+            }
+        } catch (RuntimeException e) {
+            if (firstPage) {
+                closePointInTime(pitId);
+            }
+            throw e;
+        }
+
+        if (null == nextCursor) {
+            closePointInTime(nextPitId);
+        }
+
+        return CursorPage.<Restaurant>builder()
+                .content(hits.stream().map(hit -> RestaurantSearchQueryBuilder.toSummary(criteria, hit)).toList())
+                .nextCursor(nextCursor)
+                .totalHits(firstPage ? searchHits.getTotalHits() : null)
+                .build();
+    }
+
+    @Override
+    public SearchProfile profileSearch(RestaurantSearchCriteria criteria, Pageable pageable) {
+        co.elastic.clients.elasticsearch._types.query_dsl.Query query = RestaurantSearchQueryBuilder.build(criteria);
+        String indexName = elasticsearchOperations.getIndexCoordinatesFor(Restaurant.class).getIndexName();
+
+        SearchResponse<Void> response;
+        try {
+            response = elasticsearchClient.search(search -> search
+                    .index(indexName)
+                    .query(query)
+                    .sort(RestaurantSearchQueryBuilder.sort(criteria))
+                    .from((int) pageable.getOffset())
+                    .size(pageable.getPageSize())
+                    .source(source -> source.fetch(false))
+                    .profile(true), Void.class);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to profile search on " + indexName, e);
+        }
+
+        TotalHits totalHits = response.hits().total();
+        ShardStatistics shards = response.shards();
+
+        return new SearchProfile(
+                RestaurantSearchQueryBuilder.queryType(criteria),
+                toJson(query),
+                response.took(),
+                null == totalHits ? 0 : totalHits.value(),
+                shards.total().intValue(),
+                shards.successful().intValue(),
+                shards.failed().intValue(),
+                null == response.profile() ? null : toJson(response.profile())
+        );
+    }
+
+    private SearchHits<Restaurant> search(String pagination, RestaurantSearchCriteria criteria, NativeQuery query) {
+        String queryType = RestaurantSearchQueryBuilder.queryType(criteria);
+        Timer timer = Timer.builder("restaurant.search")
+                .tag("query.type", queryType)
+                .tag("pagination", pagination)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        long start = System.nanoTime();
+        SearchHits<Restaurant> searchHits;
+        try {
+            searchHits = elasticsearchOperations.search(query, Restaurant.class);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        if (elapsed.compareTo(slowQueryThreshold) >= 0) {
+            log.warn("Slow restaurant search: type={} pagination={} took={}ms elapsed={}ms hits={} query={}",
+                    queryType,
+                    pagination,
+                    searchHits.getExecutionDuration().toMillis(),
+                    elapsed.toMillis(),
+                    searchHits.getTotalHits(),
+                    null == query.getQuery() ? null : toJson(query.getQuery()));
+        }
+
+        return searchHits;
+    }
+
+    private String toJson(JsonpSerializable value) {
+        return JsonpUtils.toJsonString(value, elasticsearchClient._jsonpMapper());
+    }
+
+    private NativeQueryBuilder withTrackTotalHits(NativeQueryBuilder queryBuilder) {
+        if (trackTotalHitsUpTo < 0) {
+            return queryBuilder.withTrackTotalHits(true);
+        }
+        if (trackTotalHitsUpTo == 0) {
+            return queryBuilder.withTrackTotalHits(false);
+        }
+        return queryBuilder.withTrackTotalHitsUpTo(trackTotalHitsUpTo);
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchOperations.closePointInTime(pitId);
+        } catch (RuntimeException e) {
+            log.warn("Could not close point in time {}", pitId, e);
+        }
+    }
+
+    @Override
+    public void applyRatingDelta(String restaurantId, RatingDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        UpdateQuery updateQuery = UpdateQuery.builder(restaurantId)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript(APPLY_RATING_DELTA_SCRIPT)
+                .withParams(Map.of(
+                        "reviewCount", delta.getReviewCount(),
+                        "ratingSum", delta.getRatingSum(),
+                        "histogram", delta.getHistogram()
+                ))
+                .withRetryOnConflict(RATING_UPDATE_RETRIES_ON_CONFLICT)
+                .build();
+
+        elasticsearchOperations.update(updateQuery, elasticsearchOperations.getIndexCoordinatesFor(Restaurant.class));
+    }
+
+    @Override
+    public Map<String, String> bulkIndex(List<Restaurant> restaurants) {
+        if (restaurants.isEmpty()) {
+            return Map.of();
+        }
+
+        List<IndexQuery> indexQueries = restaurants.stream()
+                .map(restaurant -> new IndexQueryBuilder()
+                        .withId(restaurant.getId())
+                        .withObject(restaurant)
+                        .build())
+                .toList();
+
+        BulkOptions bulkOptions = BulkOptions.builder()
+                .withRefreshPolicy(RefreshPolicy.NONE)
+                .build();
+
+        try {
+            elasticsearchOperations.bulkIndex(
+                    indexQueries,
+                    bulkOptions,
+                    elasticsearchOperations.getIndexCoordinatesFor(Restaurant.class)
+            );
+            return Map.of();
+        } catch (BulkFailureException e) {
+            Map<String, String> failures = new HashMap<>();
+            e.getFailedDocuments().forEach((id, details) -> failures.put(id, details.errorMessage()));
+            return failures;
+        }
+    }
+
+    @Override
+    public ReviewCountStatistics reviewCountStatistics(int topRestaurants) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(matchAll -> matchAll))
+                .withSort(Sort.by(Sort.Direction.DESC, "totalReviews"))
+                .withMaxResults(topRestaurants)
+                .withSourceFilter(new FetchSourceFilter(true, new String[]{"name", "totalReviews"}, null))
+                .withAggregation(REVIEW_COUNT_PERCENTILES, Aggregation.of(aggregation -> aggregation
+                        .percentiles(percentiles -> percentiles
+                                .field("totalReviews")
+                                .percents(50.0, 90.0, 99.0, 100.0)
+                                .keyed(false))))
+                .withTrackTotalHits(false)
+                .build();
+
+        SearchHits<Restaurant> searchHits = elasticsearchOperations.search(query, Restaurant.class);
+
+        Map<String, Double> quantiles = new LinkedHashMap<>();
+        if (searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations) {
+            aggregations.get(REVIEW_COUNT_PERCENTILES).aggregation().getAggregate()
+                    .tdigestPercentiles().values().array()
+                    .forEach(item -> quantiles.put(String.valueOf(Double.parseDouble(item.key()) / 100), item.value()));
+        }
+
+        return new ReviewCountStatistics(
+                quantiles,
+                searchHits.stream().map(SearchHit::getContent).toList()
+        );
+    }
+
+    @Override
+    public void suspendRefresh() {
+        refreshLock.lock();
+        try {
+            if (0 == refreshSuspensions) {
+                putRefreshInterval("-1");
+            }
+            refreshSuspensions++;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public void resumeRefresh() {
+        refreshLock.lock();
+        try {
+            if (0 == --refreshSuspensions) {
+                putRefreshInterval(restoredRefreshInterval);
+                elasticsearchOperations.indexOps(Restaurant.class).refresh();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void putRefreshInterval(String refreshInterval) {
+        String indexName = elasticsearchOperations.getIndexCoordinatesFor(Restaurant.class).getIndexName();
+        try {
+            elasticsearchClient.indices().putSettings(settings -> settings
+                    .index(indexName)
+                    .settings(index -> index.refreshInterval(interval -> interval.time(refreshInterval))));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to update refresh interval of " + indexName, e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.dev.restaurant.repositories;
+
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.exceptions.InvalidSearchException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class RestaurantSearchQueryBuilder {
+
+    public static final String[] SUMMARY_FIELDS = {
+            "name", "cuisineType", "averageRating", "totalReviews", "address", "photos"
+    };
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private RestaurantSearchQueryBuilder() {
+    }
+
+    public static NativeQueryBuilder summaryQuery(RestaurantSearchCriteria criteria) {
+        return NativeQuery.builder()
+                .withQuery(build(criteria))
+                .withSort(sort(criteria))
+                .withSourceFilter(new FetchSourceFilter(true, SUMMARY_FIELDS, null));
+    }
+
+    public static Restaurant toSummary(RestaurantSearchCriteria criteria, SearchHit<Restaurant> hit) {
+        Restaurant restaurant = hit.getContent();
+        if (criteria.isSortByDistance() && !hit.getSortValues().isEmpty()) {
+            restaurant.setDistanceKm(((Number) hit.getSortValues().get(0)).doubleValue());
+        }
+        return restaurant;
+    }
+
+    public static String queryType(RestaurantSearchCriteria criteria) {
+        List<String> parts = new ArrayList<>();
+        if (null != criteria.getQuery() && !criteria.getQuery().isBlank()) {
+            parts.add("text");
+        }
+        if (null != criteria.getLatitude() && null != criteria.getLongitude()) {
+            parts.add("geo");
+        }
+        if (null != criteria.getMinRating()) {
+            parts.add("minRating");
+        }
+        if (null != criteria.getCuisineType() && !criteria.getCuisineType().isBlank()) {
+            parts.add("cuisine");
+        }
+        if (criteria.isOpenNow() || null != criteria.getOpenAt()) {
+            parts.add("openNow");
+        }
+        return parts.isEmpty() ? "findAll" : String.join("+", parts);
+    }
+
+    public static Query build(RestaurantSearchCriteria criteria) {
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+
+        String text = criteria.getQuery();
+        if (null != text && !text.isBlank()) {
+            bool.must(must -> must.bool(textQuery -> textQuery
+                    .should(should -> should.fuzzy(fuzzy -> fuzzy
+                            .field("name").value(text.trim()).fuzziness("AUTO")))
+                    .should(should -> should.fuzzy(fuzzy -> fuzzy
+                            .field("cuisineType").value(text.trim()).fuzziness("AUTO")))
+                    .should(should -> should.match(match -> match
+                            .field("name.prefix").query(text.trim()).operator(Operator.And)))
+                    .minimumShouldMatch("1")
+            ));
+        }
+
+        if (null != criteria.getMinRating()) {
+            bool.filter(filter -> filter.range(range -> range.number(number -> number
+                    .field("averageRating")
+                    .gte(criteria.getMinRating().doubleValue()))));
+        }
+
+        if (null != criteria.getLatitude() && null != criteria.getLongitude() && null != criteria.getRadius()) {
+            bool.filter(filter -> filter.geoDistance(geo -> geo
+                    .field("geoLocation")
+                    .distance(criteria.getRadius() + "km")
+                    .location(location -> location.latlon(latLon -> latLon
+                            .lat(criteria.getLatitude())
+                            .lon(criteria.getLongitude())))));
+        }
+
+        String cuisineType = criteria.getCuisineType();
+        if (null != cuisineType && !cuisineType.isBlank()) {
+            bool.filter(filter -> filter.match(match -> match
+                    .field("cuisineType")
+                    .query(cuisineType.trim())
+                    .operator(Operator.And)));
+        }
+
+        if (null != criteria.getOpenAt()) {
+            bool.filter(openAt(criteria.getOpenAt()));
+        }
+
+        return Query.of(query -> query.bool(bool.build()));
+    }
+
+    public static List<SortOptions> sort(RestaurantSearchCriteria criteria) {
+        if (!criteria.isSortByDistance()) {
+            return List.of();
+        }
+
+        if (null == criteria.getLatitude() || null == criteria.getLongitude()) {
+            throw new InvalidSearchException("Sorting by distance requires a latitude and longitude");
+        }
+
+        return List.of(
+                SortOptions.of(sort -> sort.geoDistance(geo -> geo
+                        .field("geoLocation")
+                        .location(location -> location.latlon(latLon -> latLon
+                                .lat(criteria.getLatitude())
+                                .lon(criteria.getLongitude())))
+                        .unit(DistanceUnit.Kilometers)
+                        .order(SortOrder.Asc))),
+                SortOptions.of(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+        );
+    }
+
+    private static Query openAt(LocalDateTime dateTime) {
+        String dayPath = "operatingHours." + dateTime.getDayOfWeek().name().toLowerCase(Locale.ROOT);
+        String time = dateTime.format(TIME_FORMAT);
+
+        return Query.of(query -> query.nested(operatingHours -> operatingHours
+                .path("operatingHours")
+                .query(day -> day.nested(nested -> nested
+                        .path(dayPath)
+                        .query(range -> range.bool(bool -> bool
+                                .filter(open -> open.range(r -> r.term(term -> term
+                                        .field(dayPath + ".openTime").lte(time))))
+                                .filter(close -> close.range(r -> r.term(term -> term
+                                        .field(dayPath + ".closeTime").gt(time))))
+                        ))
+                ))
+        ));
+    }
+}
@@ -0,0 +1,21 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.entities.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface ReviewRepository extends ElasticsearchRepository<Review, String>, ReviewRepositoryCustom {
+
+    Stream<Review> findByRestaurantId(String restaurantId);
+
+    Page<Review> findByRestaurantId(String restaurantId, Pageable pageable);
+
+    boolean existsByRestaurantIdAndWrittenById(String restaurantId, String userId);
+
+    void deleteByRestaurantId(String restaurantId);
+}
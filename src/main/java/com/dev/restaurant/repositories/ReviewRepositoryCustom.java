@@ -0,0 +1,10 @@
+package com.dev.restaurant.repositories;
+
+import com.dev.restaurant.domain.entities.Review;
+
+public interface ReviewRepositoryCustom {
+
+    boolean createIfAbsent(Review review);
+
+    void deleteIfUnchanged(Review review);
+}
@@ -0,0 +1,68 @@
+package com.dev.restaurant.repositories;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Result;
+import co.elastic.clients.elasticsearch.core.DeleteResponse;
+import com.dev.restaurant.domain.entities.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.elasticsearch.VersionConflictException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Override
+    public boolean createIfAbsent(Review review) {
+        IndexQuery indexQuery = new IndexQueryBuilder()
+                .withId(review.getId())
+                .withObject(review)
+                .withOpType(IndexQuery.OpType.CREATE)
+                .build();
+
+        try {
+            elasticsearchOperations.index(indexQuery, elasticsearchOperations.getIndexCoordinatesFor(Review.class));
+            return true;
+        } catch (VersionConflictException | OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void deleteIfUnchanged(Review review) {
+        String indexName = elasticsearchOperations.getIndexCoordinatesFor(Review.class).getIndexName();
+        SeqNoPrimaryTerm seqNoPrimaryTerm = review.getSeqNoPrimaryTerm();
+
+        try {
+            DeleteResponse response = elasticsearchClient.delete(delete -> {
+                delete.index(indexName).id(review.getId());
+                if (null != seqNoPrimaryTerm) {
+                    delete.ifSeqNo(seqNoPrimaryTerm.sequenceNumber())
+                            .ifPrimaryTerm(seqNoPrimaryTerm.primaryTerm());
+                }
+                return delete;
+            });
+
+            if (Result.NotFound == response.result()) {
+                throw new OptimisticLockingFailureException("Review was already deleted: " + review.getId());
+            }
+        } catch (ElasticsearchException e) {
+            if (409 == e.status()) {
+                throw new OptimisticLockingFailureException("Review was modified concurrently: " + review.getId(), e);
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to delete review: " + review.getId(), e);
+        }
+    }
+}
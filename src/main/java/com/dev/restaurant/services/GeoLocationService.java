@@ -3,6 +3,21 @@ package com.dev.restaurant.services;
 import com.dev.restaurant.domain.GeoLocation;
 import com.dev.restaurant.domain.entities.Address;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface GeoLocationService {
     GeoLocation geoLocation(Address address);
+
+    default List<Optional<GeoLocation>> geoLocate(List<Address> addresses) {
+        return addresses.stream()
+                .map(address -> {
+                    try {
+                        return Optional.of(geoLocation(address));
+                    } catch (RuntimeException e) {
+                        return Optional.<GeoLocation>empty();
+                    }
+                })
+                .toList();
+    }
 }
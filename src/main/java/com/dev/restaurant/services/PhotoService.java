@@ -1,13 +1,23 @@
 package com.dev.restaurant.services;
 
+import com.dev.restaurant.domain.PhotoUpload;
 import com.dev.restaurant.domain.entities.Photo;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 public interface PhotoService {
     Photo uploadPhoto(MultipartFile file);
 
+    Photo uploadPhoto(InputStream inputStream, long contentLength, String extension);
+
+    PhotoUpload submitUpload(MultipartFile file);
+
+    Optional<PhotoUpload> getUpload(String uploadId);
+
     Optional<Resource> getPhotoAsResource(String fileName);
+
+    Optional<Resource> getPhotoAsResource(String fileName, Integer width);
 }
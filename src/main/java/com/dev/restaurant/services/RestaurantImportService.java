@@ -0,0 +1,10 @@
+package com.dev.restaurant.services;
+
+import com.dev.restaurant.domain.RestaurantImportFormat;
+import com.dev.restaurant.domain.RestaurantImportReport;
+
+import java.io.InputStream;
+
+public interface RestaurantImportService {
+    RestaurantImportReport importRestaurants(InputStream inputStream, RestaurantImportFormat format);
+}
@@ -1,23 +1,31 @@
 package com.dev.restaurant.services;
 
+import com.dev.restaurant.domain.BulkItemResult;
+import com.dev.restaurant.domain.CursorPage;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.SearchCursor;
+import com.dev.restaurant.domain.SearchProfile;
 import com.dev.restaurant.domain.entities.Restaurant;
 import com.dev.restaurant.domain.requests.RestaurantCreateUpdateRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RestaurantService {
     Restaurant createRestaurant(RestaurantCreateUpdateRequest request);
 
-    Page<Restaurant> searchRestaurants(
-            String query,
-            Float minRating,
-            Float latitude,
-            Float longitude,
-            Float radius,
-            Pageable pageable
-    );
+    List<BulkItemResult> createRestaurants(List<RestaurantCreateUpdateRequest> requests);
+
+    Page<Restaurant> searchRestaurants(RestaurantSearchCriteria criteria, Pageable pageable);
+
+    CursorPage<Restaurant> searchRestaurantsAfter(RestaurantSearchCriteria criteria, SearchCursor cursor, int size);
+
+    SearchProfile profileSearch(RestaurantSearchCriteria criteria, Pageable pageable);
+
+    Flux<Restaurant> streamRestaurants(RestaurantSearchCriteria criteria, int limit);
 
     Optional<Restaurant> getRestaurant(String id);
 
@@ -5,6 +5,8 @@ import com.dev.restaurant.domain.entities.User;
 import com.dev.restaurant.domain.requests.ReviewCreateUpdateRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
 
 import java.util.Optional;
 
@@ -13,6 +15,8 @@ public interface ReviewService {
 
     Page<Review> getReviews(String restaurantId, Pageable pageable);
 
+    Flux<Review> streamReviews(String restaurantId, Sort sort);
+
     Optional<Review> getReview(String restaurantId, String reviewId);
 
     Review updateReview(User author, String restaurantId, String reviewId, ReviewCreateUpdateRequest request);
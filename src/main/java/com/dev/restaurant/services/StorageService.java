@@ -1,12 +1,20 @@
 package com.dev.restaurant.services;
 
+import com.dev.restaurant.domain.StoredFile;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 public interface StorageService {
-    String store(MultipartFile file, String fileName);
+    StoredFile store(MultipartFile file, String fileName);
+
+    StoredFile store(InputStream inputStream, long declaredSize, String fileName, String extension);
 
     Optional<Resource> loadAsResource(String fileName);
+
+    Resource storeVariant(String fileName, int width, byte[] content);
+
+    Optional<Resource> loadVariant(String fileName, int width);
 }
@@ -0,0 +1,106 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.AddressKey;
+import com.dev.restaurant.domain.GeoLocation;
+import com.dev.restaurant.domain.entities.Address;
+import com.dev.restaurant.services.GeoLocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+@Service
+@Primary
+@Slf4j
+public class CachingGeoLocationService implements GeoLocationService {
+
+    private final GeoLocationService geoLocationProvider;
+    private final Cache<AddressKey, GeoLocation> cache;
+    private final int parallelism;
+
+    public CachingGeoLocationService(
+            @Qualifier("geoLocationProvider") GeoLocationService geoLocationProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.geocoding.cache.maximum-size:50000}") long maximumSize,
+            @Value("${app.geocoding.cache.expire-after-write:30d}") Duration expireAfterWrite,
+            @Value("${app.geocoding.parallelism:16}") int parallelism
+    ) {
+        this.geoLocationProvider = geoLocationProvider;
+        this.parallelism = parallelism;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "geocoding");
+    }
+
+    @Override
+    public GeoLocation geoLocation(Address address) {
+        return cache.get(AddressKey.of(address), key -> geoLocationProvider.geoLocation(address));
+    }
+
+    @Override
+    public List<Optional<GeoLocation>> geoLocate(List<Address> addresses) {
+        Map<AddressKey, GeoLocation> resolved = new HashMap<>();
+        Map<AddressKey, Address> misses = new LinkedHashMap<>();
+        List<AddressKey> keys = new ArrayList<>(addresses.size());
+
+        for (Address address : addresses) {
+            AddressKey key = AddressKey.of(address);
+            keys.add(key);
+            GeoLocation cached = cache.getIfPresent(key);
+            if (null != cached) {
+                resolved.put(key, cached);
+            } else {
+                misses.putIfAbsent(key, address);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Semaphore permits = new Semaphore(parallelism);
+            Map<AddressKey, Future<GeoLocation>> lookups = new LinkedHashMap<>();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                misses.forEach((key, address) -> lookups.put(key, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return geoLocation(address);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+
+            lookups.forEach((key, lookup) -> {
+                if (Future.State.SUCCESS == lookup.state()) {
+                    resolved.put(key, lookup.resultNow());
+                } else {
+                    log.warn("Could not geocode address {}", key.value(), lookup.exceptionNow());
+                }
+            });
+        }
+
+        return keys.stream()
+                .map(key -> Optional.ofNullable(resolved.get(key)))
+                .toList();
+    }
+}
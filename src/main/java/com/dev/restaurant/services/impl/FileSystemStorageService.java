@@ -1,32 +1,52 @@
 package com.dev.restaurant.services.impl;
 
+import com.dev.restaurant.domain.StoredFile;
+import com.dev.restaurant.exceptions.FileTooLargeException;
 import com.dev.restaurant.exceptions.StorageException;
 import com.dev.restaurant.services.StorageService;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @Slf4j
 public class FileSystemStorageService implements StorageService {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("^([0-9a-f]{64})(_w\\d+)?(\\.[A-Za-z0-9]+)?$");
+
     @Value("${app.storage.location:uploads}")
     private String storageLocation;
 
+    @Value("${app.storage.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Value("${app.storage.content-addressed:false}")
+    private boolean contentAddressed;
+
     private Path rootLocation;
 
     @PostConstruct
@@ -40,49 +60,147 @@ public class FileSystemStorageService implements StorageService {
     }
 
     @Override
-    public String store(MultipartFile file, String fileName) {
-        try {
-            if (file.isEmpty()) {
-                throw new StorageException("Cannot save an empty file");
-            }
+    public StoredFile store(MultipartFile file, String fileName) {
+        if (file.isEmpty()) {
+            throw new StorageException("Cannot save an empty file");
+        }
 
-            String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
-            String finalFileName = fileName + "." + extension;
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
 
-            Path destinationFile = rootLocation
-                    .resolve(Paths.get(finalFileName))
-                    .normalize()
-                    .toAbsolutePath();
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(inputStream, file.getSize(), fileName, extension);
+        } catch (IOException e) {
+            throw new StorageException("Failed to store file", e);
+        }
+    }
 
-            if (!destinationFile.getParent().equals(rootLocation.toAbsolutePath())) {
-                throw new StorageException("Cannot store file outside specified directory");
-            }
+    @Override
+    public StoredFile store(InputStream inputStream, long declaredSize, String fileName, String extension) {
+        if (declaredSize > maxFileSize.toBytes()) {
+            throw new FileTooLargeException("Declared size " + declaredSize + " exceeds " + maxFileSize);
+        }
 
-            try (InputStream inputStream = file.getInputStream()) {
-                Files.copy(inputStream, destinationFile, StandardCopyOption.REPLACE_EXISTING);
+        try {
+            Path tempFile = Files.createTempFile(rootLocation, ".upload-", ".tmp");
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                long size = copyWithLimit(new DigestInputStream(inputStream, digest), tempFile);
+
+                if (0 == size) {
+                    throw new StorageException("Cannot save an empty file");
+                }
+
+                String checksum = HexFormat.of().formatHex(digest.digest());
+                String finalFileName = withExtension(contentAddressed ? checksum : fileName, extension);
+                Path destinationFile = resolve(finalFileName);
+
+                if (contentAddressed) {
+                    Files.createDirectories(destinationFile.getParent());
+                    if (Files.exists(destinationFile)) {
+                        return new StoredFile(finalFileName, checksum, size);
+                    }
+                    try {
+                        Files.move(tempFile, destinationFile, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException e) {
+                        log.debug("Concurrent upload already stored {}", finalFileName);
+                    }
+                } else {
+                    Files.move(tempFile, destinationFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                return new StoredFile(finalFileName, checksum, size);
+            } finally {
+                Files.deleteIfExists(tempFile);
             }
-
-            return finalFileName;
         } catch (IOException e) {
             throw new StorageException("Failed to store file", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new StorageException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public Resource storeVariant(String fileName, int width, byte[] content) {
+        Path destinationFile = resolve(variantFileName(fileName, width));
+
+        try {
+            Files.createDirectories(destinationFile.getParent());
+            Path tempFile = Files.createTempFile(rootLocation, ".variant-", ".tmp");
+            try {
+                Files.write(tempFile, content);
+                Files.move(tempFile, destinationFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            return new FileSystemResource(destinationFile);
+        } catch (IOException e) {
+            throw new StorageException("Failed to store photo variant", e);
         }
     }
 
+    @Override
+    public Optional<Resource> loadVariant(String fileName, int width) {
+        return loadAsResource(variantFileName(fileName, width));
+    }
+
     @Override
     public Optional<Resource> loadAsResource(String fileName) {
+        Path file;
         try {
-            Path file = rootLocation.resolve(fileName);
+            file = resolve(fileName);
+        } catch (StorageException e) {
+            log.warn("Refusing to read file outside storage location: {}", fileName);
+            return Optional.empty();
+        }
 
-            Resource resource = new UrlResource(file.toUri());
+        Resource resource = new FileSystemResource(file);
 
-            if (resource.exists() || resource.isReadable()) {
-                return Optional.of(resource);
-            }
+        if (resource.exists() && resource.isReadable()) {
+            return Optional.of(resource);
+        }
 
-            return Optional.empty();
-        } catch (MalformedURLException e) {
-            log.warn("Could not read file: {}", fileName, e);
-            return Optional.empty();
+        return Optional.empty();
+    }
+
+    private Path resolve(String fileName) {
+        if (!StringUtils.hasText(fileName) || fileName.startsWith(".") || fileName.contains("/") || fileName.contains("\\")) {
+            throw new StorageException("Cannot store file outside specified directory");
         }
+
+        Matcher matcher = CONTENT_ADDRESSED_NAME.matcher(fileName);
+        Path directory = matcher.matches()
+                ? rootLocation.resolve(matcher.group(1).substring(0, 2)).resolve(matcher.group(1).substring(2, 4))
+                : rootLocation;
+
+        return directory.resolve(fileName).normalize().toAbsolutePath();
+    }
+
+    private static String withExtension(String baseName, String extension) {
+        return null == extension ? baseName : baseName + "." + extension;
+    }
+
+    private static String variantFileName(String fileName, int width) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        String baseName = StringUtils.stripFilenameExtension(fileName);
+        return withExtension(baseName + "_w" + width, extension);
+    }
+
+    private long copyWithLimit(InputStream inputStream, Path target) throws IOException {
+        long limit = maxFileSize.toBytes();
+        long size = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (OutputStream outputStream = Files.newOutputStream(target, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+                if (size > limit) {
+                    throw new FileTooLargeException("Upload exceeds " + maxFileSize);
+                }
+                outputStream.write(buffer, 0, read);
+            }
+        }
+
+        return size;
     }
 }
@@ -0,0 +1,68 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.exceptions.WriteConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public OptimisticRetryExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.writes.max-attempts:5}") int maxAttempts,
+            @Value("${app.writes.initial-backoff:20ms}") Duration initialBackoff,
+            @Value("${app.writes.max-backoff:500ms}") Duration maxBackoff
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("restaurant.writes.conflicts", "operation", operation).increment();
+
+                if (attemptNumber >= maxAttempts) {
+                    meterRegistry.counter("restaurant.writes.exhausted", "operation", operation).increment();
+                    throw new WriteConflictException(
+                            "Gave up on " + operation + " after " + attemptNumber + " conflicting attempts", e);
+                }
+
+                log.debug("Conflict on {} attempt {}, retrying", operation, attemptNumber);
+                meterRegistry.counter("restaurant.writes.retries", "operation", operation).increment();
+                backOff(operation, attemptNumber);
+            }
+        }
+    }
+
+    private void backOff(String operation, int attemptNumber) {
+        long ceilingMillis = Math.min(
+                maxBackoff.toMillis(),
+                initialBackoff.toMillis() << Math.min(attemptNumber - 1, 16)
+        );
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceilingMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteConflictException("Interrupted while retrying " + operation, e);
+        }
+    }
+}
@@ -1,35 +1,129 @@
 package com.dev.restaurant.services.impl;
 
+import com.dev.restaurant.domain.PhotoUpload;
+import com.dev.restaurant.domain.StoredFile;
 import com.dev.restaurant.domain.entities.Photo;
+import com.dev.restaurant.exceptions.StorageException;
+import com.dev.restaurant.exceptions.UploadRejectedException;
 import com.dev.restaurant.services.PhotoService;
 import com.dev.restaurant.services.StorageService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PhotoServiceImpl implements PhotoService {
 
     private final StorageService storageService;
+    private final PhotoVariantGenerator photoVariantGenerator;
+    private final PhotoUploadProcessor photoUploadProcessor;
+
+    @Value("${app.photos.eager-variants:false}")
+    private boolean eagerVariants;
 
     @Override
     public Photo uploadPhoto(MultipartFile file) {
-        String photoId = UUID.randomUUID().toString();
-        String url = storageService.store(file, photoId);
-        return Photo.builder()
-                .url(url)
-                .uploadDate(LocalDateTime.now())
-                .build();
+        return toPhoto(storageService.store(file, UUID.randomUUID().toString()));
+    }
+
+    @Override
+    public Photo uploadPhoto(InputStream inputStream, long contentLength, String extension) {
+        return toPhoto(storageService.store(inputStream, contentLength, UUID.randomUUID().toString(), extension));
+    }
+
+    @Override
+    public PhotoUpload submitUpload(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new StorageException("Cannot save an empty file");
+        }
+
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        try (PhotoUploadProcessor.Reservation reservation = photoUploadProcessor.reserve()) {
+            Path spooledFile = spool(file);
+
+            try {
+                return reservation.submit(() -> {
+                    try (InputStream inputStream = Files.newInputStream(spooledFile)) {
+                        return toPhoto(storageService.store(
+                                inputStream,
+                                Files.size(spooledFile),
+                                UUID.randomUUID().toString(),
+                                extension
+                        ));
+                    } finally {
+                        Files.deleteIfExists(spooledFile);
+                    }
+                });
+            } catch (UploadRejectedException e) {
+                deleteSpooledFile(spooledFile);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Optional<PhotoUpload> getUpload(String uploadId) {
+        return photoUploadProcessor.get(uploadId);
     }
 
     @Override
     public Optional<Resource> getPhotoAsResource(String fileName) {
         return storageService.loadAsResource(fileName);
     }
+
+    @Override
+    public Optional<Resource> getPhotoAsResource(String fileName, Integer width) {
+        if (null == width || width <= 0) {
+            return getPhotoAsResource(fileName);
+        }
+        return photoVariantGenerator.getVariant(fileName, photoVariantGenerator.nearestWidth(width));
+    }
+
+    private Path spool(MultipartFile file) {
+        try {
+            Path spooledFile = Files.createTempFile("photo-upload-", ".tmp");
+            try {
+                file.transferTo(spooledFile);
+            } catch (IOException | RuntimeException e) {
+                deleteSpooledFile(spooledFile);
+                throw e;
+            }
+            return spooledFile;
+        } catch (IOException e) {
+            throw new StorageException("Failed to accept upload", e);
+        }
+    }
+
+    private void deleteSpooledFile(Path spooledFile) {
+        try {
+            Files.deleteIfExists(spooledFile);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}", spooledFile, e);
+        }
+    }
+
+    private Photo toPhoto(StoredFile storedFile) {
+        if (eagerVariants) {
+            photoVariantGenerator.generateAllAsync(storedFile.fileName());
+        }
+        return Photo.builder()
+                .url(storedFile.fileName())
+                .checksum(storedFile.checksum())
+                .uploadDate(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,122 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.PhotoUpload;
+import com.dev.restaurant.domain.PhotoUploadStatus;
+import com.dev.restaurant.domain.entities.Photo;
+import com.dev.restaurant.exceptions.UploadRejectedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class PhotoUploadProcessor {
+
+    private final Semaphore permits;
+    private final Cache<String, PhotoUpload> uploads;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("photo-upload-", 0).factory()
+    );
+
+    public PhotoUploadProcessor(
+            MeterRegistry meterRegistry,
+            @Value("${app.photos.processing.max-in-flight:64}") int maxInFlight,
+            @Value("${app.photos.processing.status-ttl:10m}") Duration statusTtl
+    ) {
+        this.permits = new Semaphore(maxInFlight);
+        this.uploads = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .build();
+
+        Gauge.builder("photo.uploads.in.flight", permits, semaphore -> maxInFlight - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public Reservation reserve() {
+        if (!permits.tryAcquire()) {
+            throw new UploadRejectedException("Photo processing queue is full");
+        }
+        return new Reservation();
+    }
+
+    public Optional<PhotoUpload> get(String uploadId) {
+        return Optional.ofNullable(uploads.getIfPresent(uploadId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    private void process(PhotoUpload upload, Callable<Photo> task) {
+        try {
+            uploads.put(upload.getId(), upload.toBuilder().status(PhotoUploadStatus.PROCESSING).build());
+
+            Photo photo = task.call();
+
+            uploads.put(upload.getId(), upload.toBuilder()
+                    .status(PhotoUploadStatus.COMPLETED)
+                    .photo(photo)
+                    .build());
+        } catch (Exception e) {
+            log.error("Photo upload {} failed", upload.getId(), e);
+            uploads.put(upload.getId(), upload.toBuilder()
+                    .status(PhotoUploadStatus.FAILED)
+                    .error(e.getMessage())
+                    .build());
+        } finally {
+            permits.release();
+        }
+    }
+
+    public class Reservation implements AutoCloseable {
+
+        private final AtomicBoolean held = new AtomicBoolean(true);
+
+        public PhotoUpload submit(Callable<Photo> task) {
+            if (!held.compareAndSet(true, false)) {
+                throw new IllegalStateException("Reservation has already been used");
+            }
+
+            PhotoUpload upload = PhotoUpload.builder()
+                    .id(UUID.randomUUID().toString())
+                    .status(PhotoUploadStatus.PENDING)
+                    .submittedAt(LocalDateTime.now())
+                    .build();
+            uploads.put(upload.getId(), upload);
+
+            try {
+                executor.execute(() -> process(upload, task));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                uploads.invalidate(upload.getId());
+                throw new UploadRejectedException("Photo processing is shutting down", e);
+            }
+
+            return upload;
+        }
+
+        @Override
+        public void close() {
+            if (held.compareAndSet(true, false)) {
+                permits.release();
+            }
+        }
+    }
+}
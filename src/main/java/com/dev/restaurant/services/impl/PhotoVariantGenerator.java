@@ -0,0 +1,219 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.exceptions.PhotoVariantUnavailableException;
+import com.dev.restaurant.exceptions.StorageException;
+import com.dev.restaurant.services.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class PhotoVariantGenerator {
+
+    private final StorageService storageService;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final Semaphore permits;
+    private final Duration permitTimeout;
+    private final Map<String, CompletableFuture<Optional<Resource>>> inFlight = new ConcurrentHashMap<>();
+
+    public PhotoVariantGenerator(
+            StorageService storageService,
+            @Value("${app.photos.variant-widths:160,480,1080}") List<Integer> widths,
+            @Value("${app.photos.max-pixels:40000000}") long maxPixels,
+            @Value("${app.photos.max-concurrent-variants:4}") int maxConcurrentVariants,
+            @Value("${app.photos.variant-wait-timeout:2s}") Duration permitTimeout
+    ) {
+        this.storageService = storageService;
+        this.widths = widths.stream().filter(width -> width > 0).sorted().distinct().toList();
+        if (this.widths.isEmpty()) {
+            throw new IllegalArgumentException("app.photos.variant-widths must contain at least one positive width");
+        }
+        this.maxPixels = maxPixels;
+        this.permits = new Semaphore(maxConcurrentVariants);
+        this.permitTimeout = permitTimeout;
+    }
+
+    public int nearestWidth(int requestedWidth) {
+        return widths.stream()
+                .filter(width -> width >= requestedWidth)
+                .findFirst()
+                .orElse(widths.getLast());
+    }
+
+    public Optional<Resource> getVariant(String fileName, int width) {
+        return getVariant(fileName, width, false);
+    }
+
+    @Async
+    public void generateAllAsync(String fileName) {
+        widths.forEach(width -> {
+            try {
+                getVariant(fileName, width, true);
+            } catch (RuntimeException e) {
+                log.warn("Could not generate {}px variant of {}", width, fileName, e);
+            }
+        });
+    }
+
+    private Optional<Resource> getVariant(String fileName, int width, boolean background) {
+        Optional<Resource> existing = storageService.loadVariant(fileName, width);
+        if (existing.isPresent()) {
+            return existing;
+        }
+
+        String key = fileName + "@" + width;
+        CompletableFuture<Optional<Resource>> generation = new CompletableFuture<>();
+        CompletableFuture<Optional<Resource>> running = inFlight.putIfAbsent(key, generation);
+        if (null != running) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Optional<Resource> variant = generate(fileName, width, background);
+            generation.complete(variant);
+            return variant;
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, generation);
+        }
+    }
+
+    private Optional<Resource> generate(String fileName, int width, boolean background) {
+        Optional<Resource> original = storageService.loadAsResource(fileName);
+        if (original.isEmpty()) {
+            return Optional.empty();
+        }
+
+        acquirePermit(fileName, background);
+        try {
+            BufferedImage source = decode(original.get(), width);
+            byte[] content = null == source ? null : resize(source, fileName, width);
+            if (null == content) {
+                try (InputStream inputStream = original.get().getInputStream()) {
+                    content = inputStream.readAllBytes();
+                }
+            }
+
+            return Optional.of(storageService.storeVariant(fileName, width, content));
+        } catch (IOException e) {
+            throw new StorageException("Failed to generate photo variant", e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit(String fileName, boolean background) {
+        try {
+            if (background) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(permitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new PhotoVariantUnavailableException("Variant generation for " + fileName + " is at capacity");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PhotoVariantUnavailableException("Interrupted while waiting to generate a variant of " + fileName, e);
+        }
+    }
+
+    private BufferedImage decode(Resource original, int width) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(original.getInputStream())) {
+            Iterator<ImageReader> readers = null == inputStream ? null : ImageIO.getImageReaders(inputStream);
+            if (null == readers || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                int sourceWidth = reader.getWidth(0);
+                if (sourceWidth <= width) {
+                    return null;
+                }
+
+                long pixels = (long) sourceWidth * reader.getHeight(0);
+                int subsampling = (int) Math.max(1, Math.ceil(Math.sqrt((double) pixels / maxPixels)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] resize(BufferedImage source, String fileName, int requestedWidth) throws IOException {
+        String format = StringUtils.getFilenameExtension(fileName);
+        if (null == format) {
+            return null;
+        }
+
+        int width = Math.min(requestedWidth, source.getWidth());
+        format = format.toLowerCase();
+        boolean alpha = source.getColorModel().hasAlpha() && !format.equals("jpg") && !format.equals("jpeg");
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage scaled = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(
+                    currentWidth,
+                    currentHeight,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+            );
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(scaled, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+
+            scaled = next;
+        } while (currentWidth != width || currentHeight != height);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!ImageIO.write(scaled, format, outputStream)) {
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -3,11 +3,15 @@ package com.dev.restaurant.services.impl;
 import com.dev.restaurant.domain.GeoLocation;
 import com.dev.restaurant.domain.entities.Address;
 import com.dev.restaurant.services.GeoLocationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
 
 @Service
+@Qualifier("geoLocationProvider")
+@ConditionalOnProperty(name = "app.geocoding.provider", havingValue = "random", matchIfMissing = true)
 public class RandomGeoLocationService implements GeoLocationService {
 
     private static final float MIN_LATITUDE = 51.28f;
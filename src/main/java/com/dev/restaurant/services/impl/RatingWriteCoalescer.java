@@ -0,0 +1,199 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class RatingWriteCoalescer {
+
+    private final RestaurantRepository restaurantRepository;
+    private final Duration window;
+    private final Stripe[] stripes;
+    private final DistributionSummary batchSizes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rating-coalescer-scheduler").daemon().factory()
+    );
+    private final ExecutorService flushExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("rating-coalescer-flush-", 0).factory()
+    );
+
+    public RatingWriteCoalescer(
+            RestaurantRepository restaurantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.reviews.write-coalescing.window:0ms}") Duration window,
+            @Value("${app.reviews.write-coalescing.stripes:64}") int stripeCount
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.window = window;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.batchSizes = DistributionSummary.builder("restaurant.rating.coalesced.batch.size")
+                .register(meterRegistry);
+    }
+
+    public void apply(String restaurantId, RatingDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        try {
+            submit(restaurantId, delta).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Void> submit(String restaurantId, RatingDelta delta) {
+        Stripe stripe = stripeFor(restaurantId);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        boolean startDrain;
+
+        stripe.lock.lock();
+        try {
+            PendingBatch batch = stripe.pending.computeIfAbsent(restaurantId, id -> new PendingBatch());
+            batch.delta.merge(delta);
+            batch.waiters.add(result);
+            startDrain = stripe.draining.add(restaurantId);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (startDrain) {
+            if (window.isZero()) {
+                drain(stripe, restaurantId);
+            } else {
+                scheduleDrain(stripe, restaurantId);
+            }
+        }
+
+        return result;
+    }
+
+    private void scheduleDrain(Stripe stripe, String restaurantId) {
+        try {
+            scheduler.schedule(
+                    () -> dispatchDrain(stripe, restaurantId),
+                    window.toNanos(),
+                    TimeUnit.NANOSECONDS
+            );
+        } catch (RejectedExecutionException e) {
+            drain(stripe, restaurantId);
+        }
+    }
+
+    private void dispatchDrain(Stripe stripe, String restaurantId) {
+        try {
+            flushExecutor.execute(() -> drain(stripe, restaurantId));
+        } catch (RejectedExecutionException e) {
+            drain(stripe, restaurantId);
+        }
+    }
+
+    private void drain(Stripe stripe, String restaurantId) {
+        PendingBatch batch;
+
+        stripe.lock.lock();
+        try {
+            batch = stripe.pending.remove(restaurantId);
+            if (null == batch) {
+                stripe.draining.remove(restaurantId);
+                return;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        flush(restaurantId, batch);
+
+        boolean morePending;
+        stripe.lock.lock();
+        try {
+            morePending = stripe.pending.containsKey(restaurantId);
+            if (!morePending) {
+                stripe.draining.remove(restaurantId);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (morePending) {
+            dispatchDrain(stripe, restaurantId);
+        }
+    }
+
+    private void flush(String restaurantId, PendingBatch batch) {
+        batchSizes.record(batch.waiters.size());
+
+        try {
+            restaurantRepository.applyRatingDelta(restaurantId, batch.delta);
+            batch.waiters.forEach(waiter -> waiter.complete(null));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply {} coalesced rating changes to restaurant {}",
+                    batch.waiters.size(), restaurantId, e);
+            batch.waiters.forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+
+    private Stripe stripeFor(String restaurantId) {
+        return stripes[Math.floorMod(restaurantId.hashCode(), stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+
+        for (Stripe stripe : stripes) {
+            Map<String, PendingBatch> batches;
+            stripe.lock.lock();
+            try {
+                batches = new HashMap<>(stripe.pending);
+                stripe.pending.clear();
+                stripe.draining.removeAll(batches.keySet());
+            } finally {
+                stripe.lock.unlock();
+            }
+            batches.forEach(this::flush);
+        }
+
+        flushExecutor.close();
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, PendingBatch> pending = new HashMap<>();
+        private final Set<String> draining = new HashSet<>();
+    }
+
+    private static class PendingBatch {
+        private final RatingDelta delta = new RatingDelta();
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+    }
+}
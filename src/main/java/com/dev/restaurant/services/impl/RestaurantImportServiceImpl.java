@@ -0,0 +1,249 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.BulkItemResult;
+import com.dev.restaurant.domain.RestaurantImportFormat;
+import com.dev.restaurant.domain.RestaurantImportReport;
+import com.dev.restaurant.domain.RestaurantImportRowResult;
+import com.dev.restaurant.domain.RestaurantImportRowStatus;
+import com.dev.restaurant.domain.dtos.RestaurantCreateUpdateRequestDto;
+import com.dev.restaurant.mappers.RestaurantMapper;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.services.RestaurantImportService;
+import com.dev.restaurant.services.RestaurantService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class RestaurantImportServiceImpl implements RestaurantImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final RestaurantService restaurantService;
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantMapper restaurantMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public RestaurantImportServiceImpl(
+            RestaurantService restaurantService,
+            RestaurantRepository restaurantRepository,
+            RestaurantMapper restaurantMapper,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${app.import.batch-size:500}") int batchSize
+    ) {
+        this.restaurantService = restaurantService;
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantMapper = restaurantMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RestaurantImportReport importRestaurants(InputStream inputStream, RestaurantImportFormat format) {
+        List<RestaurantImportRowResult> results = new ArrayList<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        Consumer<ImportRow> rowConsumer = row -> {
+            if (null != row.errors()) {
+                results.add(rejected(row.number(), RestaurantImportRowStatus.INVALID, row.errors()));
+                return;
+            }
+
+            List<String> violations = validator.validate(row.request()).stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+            if (!violations.isEmpty()) {
+                results.add(rejected(row.number(), RestaurantImportRowStatus.INVALID, violations));
+                return;
+            }
+
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                flush(batch, results);
+            }
+        };
+
+        restaurantRepository.suspendRefresh();
+        try {
+            switch (format) {
+                case NDJSON -> readNdjson(inputStream, rowConsumer);
+                case CSV -> readCsv(inputStream, rowConsumer);
+            }
+            flush(batch, results);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read restaurant import", e);
+        } finally {
+            try {
+                restaurantRepository.resumeRefresh();
+            } catch (RuntimeException e) {
+                log.error("Could not restore the refresh interval after importing restaurants; "
+                        + "it is restored when the index manager next runs", e);
+            }
+        }
+
+        results.sort(Comparator.comparingLong(RestaurantImportRowResult::getRow));
+
+        long created = results.stream()
+                .filter(result -> RestaurantImportRowStatus.CREATED == result.getStatus())
+                .count();
+
+        return RestaurantImportReport.builder()
+                .total(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .rows(results)
+                .build();
+    }
+
+    private void flush(List<ImportRow> batch, List<RestaurantImportRowResult> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<BulkItemResult> outcomes = restaurantService.createRestaurants(batch.stream()
+                .map(row -> restaurantMapper.toRestaurantCreateUpdateRequest(row.request()))
+                .toList());
+
+        for (int i = 0; i < batch.size(); i++) {
+            BulkItemResult outcome = outcomes.get(i);
+            long rowNumber = batch.get(i).number();
+            results.add(outcome.isSuccess()
+                    ? RestaurantImportRowResult.builder()
+                    .row(rowNumber)
+                    .status(RestaurantImportRowStatus.CREATED)
+                    .restaurantId(outcome.id())
+                    .errors(List.of())
+                    .build()
+                    : rejected(rowNumber, RestaurantImportRowStatus.FAILED, List.of(outcome.error())));
+        }
+
+        log.info("Imported batch of {} restaurants", batch.size());
+        batch.clear();
+    }
+
+    private void readNdjson(InputStream inputStream, Consumer<ImportRow> rowConsumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            RestaurantCreateUpdateRequestDto request;
+            try {
+                request = objectMapper.readValue(line, RestaurantCreateUpdateRequestDto.class);
+            } catch (JsonProcessingException e) {
+                rowConsumer.accept(ImportRow.unreadable(rowNumber, e.getOriginalMessage()));
+                continue;
+            }
+            rowConsumer.accept(null == request
+                    ? ImportRow.unreadable(rowNumber, "expected a JSON object")
+                    : ImportRow.of(rowNumber, request));
+        }
+    }
+
+    private void readCsv(InputStream inputStream, Consumer<ImportRow> rowConsumer) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows = CSV_MAPPER
+                .readerForMapOf(String.class)
+                .with(schema)
+                .readValues(inputStream)) {
+            long rowNumber = 1;
+            long failedAt = -1;
+            while (true) {
+                rowNumber++;
+                Map<String, String> row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    rowConsumer.accept(ImportRow.unreadable(rowNumber, e.getMessage()));
+                    long offset = rows.getCurrentLocation().getCharOffset();
+                    if (offset == failedAt) {
+                        break;
+                    }
+                    failedAt = offset;
+                    continue;
+                }
+                try {
+                    rowConsumer.accept(ImportRow.of(
+                            rowNumber,
+                            objectMapper.convertValue(nest(row), RestaurantCreateUpdateRequestDto.class)
+                    ));
+                } catch (IllegalArgumentException e) {
+                    rowConsumer.accept(ImportRow.unreadable(rowNumber, e.getMessage()));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nest(Map<String, String> columns) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        columns.forEach((column, value) -> {
+            if (null == value || value.isBlank()) {
+                return;
+            }
+
+            String[] path = column.trim().split("\\.");
+            Map<String, Object> parent = root;
+            for (int i = 0; i < path.length - 1; i++) {
+                parent = (Map<String, Object>) parent.computeIfAbsent(path[i], key -> new LinkedHashMap<String, Object>());
+            }
+
+            String leaf = path[path.length - 1];
+            parent.put(leaf, "photoIds".equals(leaf)
+                    ? Arrays.stream(value.split(";")).map(String::trim).filter(id -> !id.isEmpty()).toList()
+                    : value.trim());
+        });
+        return root;
+    }
+
+    private static RestaurantImportRowResult rejected(long rowNumber, RestaurantImportRowStatus status, List<String> errors) {
+        return RestaurantImportRowResult.builder()
+                .row(rowNumber)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+
+    private record ImportRow(long number, RestaurantCreateUpdateRequestDto request, List<String> errors) {
+
+        static ImportRow of(long number, RestaurantCreateUpdateRequestDto request) {
+            return new ImportRow(number, request, null);
+        }
+
+        static ImportRow unreadable(long number, String error) {
+            return new ImportRow(number, null, List.of("Unreadable row: " + error));
+        }
+    }
+}
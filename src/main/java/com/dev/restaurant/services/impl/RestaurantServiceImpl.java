@@ -1,36 +1,112 @@
 package com.dev.restaurant.services.impl;
 
+import com.dev.restaurant.caches.RestaurantDetailsCache;
+import com.dev.restaurant.domain.AddressKey;
+import com.dev.restaurant.domain.BulkItemResult;
+import com.dev.restaurant.domain.CursorPage;
 import com.dev.restaurant.domain.GeoLocation;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.SearchCursor;
+import com.dev.restaurant.domain.SearchProfile;
 import com.dev.restaurant.domain.entities.Address;
+import com.dev.restaurant.domain.entities.OperatingHours;
 import com.dev.restaurant.domain.entities.Photo;
 import com.dev.restaurant.domain.entities.Restaurant;
 import com.dev.restaurant.domain.requests.RestaurantCreateUpdateRequest;
+import com.dev.restaurant.exceptions.InvalidSearchException;
 import com.dev.restaurant.exceptions.RestaurantNotFoundException;
+import com.dev.restaurant.repositories.ReactiveRestaurantRepository;
 import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.repositories.ReviewRepository;
 import com.dev.restaurant.services.GeoLocationService;
 import com.dev.restaurant.services.RestaurantService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class RestaurantServiceImpl implements RestaurantService {
 
+    private static final DateTimeFormatter INPUT_TIME_FORMAT = DateTimeFormatter.ofPattern("H:mm");
+    private static final DateTimeFormatter STORED_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
     private final RestaurantRepository restaurantRepository;
+    private final ReactiveRestaurantRepository reactiveRestaurantRepository;
+    private final ReviewRepository reviewRepository;
     private final GeoLocationService geoLocationService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final RestaurantDetailsCache restaurantDetailsCache;
+
+    @Value("${app.search.time-zone:UTC}")
+    private ZoneId searchTimeZone;
+
+    @Value("${app.search.stream-max-results:10000}")
+    private int streamMaxResults;
+
+    @Value("${app.search.cursor-max-size:100}")
+    private int cursorMaxSize;
 
     @Override
     public Restaurant createRestaurant(RestaurantCreateUpdateRequest request) {
-        Address address = request.getAddress();
+        GeoLocation geoLocation = geoLocationService.geoLocation(request.getAddress());
+        return restaurantRepository.save(buildRestaurant(request, geoLocation));
+    }
+
+    @Override
+    public List<BulkItemResult> createRestaurants(List<RestaurantCreateUpdateRequest> requests) {
+        List<Optional<GeoLocation>> geoLocations = geoLocationService.geoLocate(requests.stream()
+                .map(RestaurantCreateUpdateRequest::getAddress)
+                .toList());
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<Restaurant> restaurants = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            Optional<GeoLocation> geoLocation = geoLocations.get(i);
+            if (geoLocation.isEmpty()) {
+                results.add(BulkItemResult.failure("Address could not be geocoded"));
+                continue;
+            }
+
+            try {
+                Restaurant restaurant = buildRestaurant(requests.get(i), geoLocation.get());
+                restaurant.setId(UUID.randomUUID().toString());
+                restaurants.add(restaurant);
+                results.add(BulkItemResult.success(restaurant.getId()));
+            } catch (RuntimeException e) {
+                results.add(BulkItemResult.failure(e.getMessage()));
+            }
+        }
 
-        GeoLocation geoLocation = geoLocationService.geoLocation(address);
+        Map<String, String> failures = restaurantRepository.bulkIndex(restaurants);
+
+        return results.stream()
+                .map(result -> result.isSuccess() && failures.containsKey(result.id())
+                        ? BulkItemResult.failure(failures.get(result.id()))
+                        : result)
+                .toList();
+    }
+
+    private Restaurant buildRestaurant(RestaurantCreateUpdateRequest request, GeoLocation geoLocation) {
+        Address address = request.getAddress();
         GeoPoint geoPoint = new GeoPoint(geoLocation.getLatitude(), geoLocation.getLongitude());
 
         List<String> photoIds = request.getPhotoIds();
@@ -40,41 +116,53 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .build()
         ).toList();
 
-        Restaurant restaurant = Restaurant.builder()
+        return Restaurant.builder()
                 .name(request.getName())
                 .cuisineType(request.getCuisineType())
                 .contactInformation(request.getContactInformation())
                 .address(address)
                 .geoLocation(geoPoint)
-                .operatingHours(request.getOperatingHours())
+                .operatingHours(normalizeOperatingHours(request.getOperatingHours()))
                 .averageRating(0f)
+                .totalReviews(0)
+                .ratingSum(0L)
+                .ratingHistogram(new HashMap<>())
                 .photos(photos)
                 .build();
+    }
 
-        return restaurantRepository.save(restaurant);
+    @Override
+    public Page<Restaurant> searchRestaurants(RestaurantSearchCriteria criteria, Pageable pageable) {
+        resolveOpenAt(criteria);
+        return restaurantRepository.searchSummaries(criteria, pageable);
     }
 
     @Override
-    public Page<Restaurant> searchRestaurants(
-            String query, Float minRating,
-            Float latitude, Float longitude,
-            Float radius, Pageable pageable
-    ) {
-        if (null != minRating && (null == query || query.isEmpty())) {
-            return restaurantRepository.findByAverageRatingGreaterThanEqual(minRating, pageable);
+    public CursorPage<Restaurant> searchRestaurantsAfter(RestaurantSearchCriteria criteria, SearchCursor cursor, int size) {
+        if (size < 1 || size > cursorMaxSize) {
+            throw new InvalidSearchException("Page size must be between 1 and " + cursorMaxSize);
         }
+        resolveOpenAt(criteria);
+        return restaurantRepository.searchSummariesAfter(criteria, cursor, size);
+    }
 
-        Float searchMinRating = null == minRating ? 0f : minRating;
+    @Override
+    public SearchProfile profileSearch(RestaurantSearchCriteria criteria, Pageable pageable) {
+        resolveOpenAt(criteria);
+        return restaurantRepository.profileSearch(criteria, pageable);
+    }
 
-        if (null != query && !query.trim().isEmpty()) {
-            return restaurantRepository.findByQueryAndMinRating(query, minRating, pageable);
-        }
+    @Override
+    public Flux<Restaurant> streamRestaurants(RestaurantSearchCriteria criteria, int limit) {
+        resolveOpenAt(criteria);
+        return reactiveRestaurantRepository.streamSummaries(criteria)
+                .take(Math.max(1, Math.min(limit, streamMaxResults)));
+    }
 
-        if (null != latitude && null != longitude && null != radius) {
-            return restaurantRepository.findByLocationNear(latitude, longitude, radius, pageable);
+    private void resolveOpenAt(RestaurantSearchCriteria criteria) {
+        if (criteria.isOpenNow() && null == criteria.getOpenAt()) {
+            criteria.setOpenAt(LocalDateTime.now(searchTimeZone));
         }
-
-        return restaurantRepository.findAll(pageable);
     }
 
     @Override
@@ -84,12 +172,6 @@ public class RestaurantServiceImpl implements RestaurantService {
 
     @Override
     public Restaurant updateRestaurant(String id, RestaurantCreateUpdateRequest request) {
-        Restaurant existingRestaurant = getRestaurant(id)
-                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with id: " + id));
-
-        GeoLocation newGeoLocation = geoLocationService.geoLocation(request.getAddress());
-        GeoPoint newGeoPoint = new GeoPoint(newGeoLocation.getLatitude(), newGeoLocation.getLongitude());
-
         List<String> photoIds = request.getPhotoIds();
         List<Photo> photos = photoIds.stream().map(photoUrl -> Photo.builder()
                 .url(photoUrl)
@@ -97,19 +179,67 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .build()
         ).toList();
 
-        existingRestaurant.setName(request.getName());
-        existingRestaurant.setCuisineType(request.getCuisineType());
-        existingRestaurant.setContactInformation(request.getContactInformation());
-        existingRestaurant.setAddress(request.getAddress());
-        existingRestaurant.setGeoLocation(newGeoPoint);
-        existingRestaurant.setOperatingHours(request.getOperatingHours());
-        existingRestaurant.setPhotos(photos);
+        Restaurant updatedRestaurant = optimisticRetryExecutor.execute("updateRestaurant", () -> {
+            Restaurant existingRestaurant = getRestaurant(id)
+                    .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with id: " + id));
+
+            boolean addressChanged = !AddressKey.of(existingRestaurant.getAddress())
+                    .equals(AddressKey.of(request.getAddress()));
+
+            if (addressChanged || null == existingRestaurant.getGeoLocation()) {
+                GeoLocation newGeoLocation = geoLocationService.geoLocation(request.getAddress());
+                existingRestaurant.setGeoLocation(
+                        new GeoPoint(newGeoLocation.getLatitude(), newGeoLocation.getLongitude())
+                );
+            }
+
+            existingRestaurant.setName(request.getName());
+            existingRestaurant.setCuisineType(request.getCuisineType());
+            existingRestaurant.setContactInformation(request.getContactInformation());
+            existingRestaurant.setAddress(request.getAddress());
+            existingRestaurant.setOperatingHours(normalizeOperatingHours(request.getOperatingHours()));
+            existingRestaurant.setPhotos(photos);
 
-        return restaurantRepository.save(existingRestaurant);
+            return restaurantRepository.save(existingRestaurant);
+        });
+
+        restaurantDetailsCache.evict(id);
+
+        return updatedRestaurant;
     }
 
     @Override
     public void deleteRestaurant(String id) {
         restaurantRepository.deleteById(id);
+        reviewRepository.deleteByRestaurantId(id);
+        restaurantDetailsCache.evict(id);
+    }
+
+    private static OperatingHours normalizeOperatingHours(OperatingHours operatingHours) {
+        if (null == operatingHours) {
+            return null;
+        }
+
+        Stream.of(
+                operatingHours.getMonday(),
+                operatingHours.getTuesday(),
+                operatingHours.getWednesday(),
+                operatingHours.getThursday(),
+                operatingHours.getFriday(),
+                operatingHours.getSaturday(),
+                operatingHours.getSunday()
+        ).filter(Objects::nonNull).forEach(timeRange -> {
+            timeRange.setOpenTime(normalizeTime(timeRange.getOpenTime()));
+            timeRange.setCloseTime(normalizeTime(timeRange.getCloseTime()));
+        });
+
+        return operatingHours;
+    }
+
+    private static String normalizeTime(String time) {
+        if (null == time) {
+            return null;
+        }
+        return LocalTime.parse(time, INPUT_TIME_FORMAT).format(STORED_TIME_FORMAT);
     }
 }
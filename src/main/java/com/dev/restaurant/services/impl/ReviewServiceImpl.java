@@ -1,37 +1,46 @@
 package com.dev.restaurant.services.impl;
 
+import com.dev.restaurant.caches.RestaurantDetailsCache;
+import com.dev.restaurant.domain.RatingDelta;
 import com.dev.restaurant.domain.entities.Photo;
-import com.dev.restaurant.domain.entities.Restaurant;
 import com.dev.restaurant.domain.entities.Review;
 import com.dev.restaurant.domain.entities.User;
 import com.dev.restaurant.domain.requests.ReviewCreateUpdateRequest;
 import com.dev.restaurant.exceptions.RestaurantNotFoundException;
 import com.dev.restaurant.exceptions.ReviewNotAllowedException;
+import com.dev.restaurant.repositories.ReactiveReviewRepository;
 import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.repositories.ReviewRepository;
 import com.dev.restaurant.services.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
     private final RestaurantRepository restaurantRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReactiveReviewRepository reactiveReviewRepository;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final RatingWriteCoalescer ratingWriteCoalescer;
+    private final RestaurantDetailsCache restaurantDetailsCache;
 
     @Override
     public Review createReview(User author, String restaurantId, ReviewCreateUpdateRequest request) {
-        Restaurant restaurant = getRestaurantOrThrow(restaurantId);
+        assertRestaurantExists(restaurantId);
 
-        boolean hasExistingReview = restaurant.getReviews()
-                .stream()
-                .anyMatch(review -> review.getWrittenBy().getId().equals(author.getId()));
+        boolean hasExistingReview = reviewRepository
+                .existsByRestaurantIdAndWrittenById(restaurantId, author.getId());
 
         if (hasExistingReview) {
             throw new ReviewNotAllowedException("User has already reviewed this restaurant");
@@ -46,10 +55,11 @@ public class ReviewServiceImpl implements ReviewService {
                         .build()
                 ).toList();
 
-        String reviewId = UUID.randomUUID().toString();
+        String reviewId = restaurantId + "_" + author.getId();
 
         Review reviewToCreate = Review.builder()
                 .id(reviewId)
+                .restaurantId(restaurantId)
                 .content(request.getContent())
                 .rating(request.getRating())
                 .photos(photos)
@@ -58,70 +68,80 @@ public class ReviewServiceImpl implements ReviewService {
                 .writtenBy(author)
                 .build();
 
-        restaurant.getReviews().add(reviewToCreate);
-
-        updateRestaurantAverageReview(restaurant);
+        if (!reviewRepository.createIfAbsent(reviewToCreate)) {
+            throw new ReviewNotAllowedException("User has already reviewed this restaurant");
+        }
 
-        Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        ratingWriteCoalescer.apply(restaurantId, RatingDelta.added(reviewToCreate.getRating()));
+        restaurantDetailsCache.evict(restaurantId);
 
-        return getReviewFromRestaurant(reviewId, savedRestaurant)
-                .orElseThrow(() -> new RuntimeException("Error retrieving created review"));
+        return reviewToCreate;
     }
 
     @Override
     public Page<Review> getReviews(String restaurantId, Pageable pageable) {
-        Restaurant restaurant = getRestaurantOrThrow(restaurantId);
-
-        List<Review> reviews = restaurant.getReviews();
+        assertRestaurantExists(restaurantId);
 
-        Sort sort = pageable.getSort();
-        if (sort.isSorted()) {
-            Sort.Order order = sort.iterator().next();
-            String property = order.getProperty();
-            boolean isAscending = order.getDirection().isAscending();
-
-            Comparator<Review> comparator = switch (property) {
-                case "datePosted" -> Comparator.comparing(Review::getDatePosted);
-                case "rating" -> Comparator.comparing(Review::getRating);
-                default -> Comparator.comparing(Review::getDatePosted);
-            };
+        PageRequest pageRequest = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                toReviewSort(pageable.getSort())
+        );
 
-            reviews.sort(isAscending ? comparator : comparator.reversed());
-        } else {
-            reviews.sort(Comparator.comparing(Review::getDatePosted).reversed());
-        }
+        return reviewRepository.findByRestaurantId(restaurantId, pageRequest);
+    }
 
-        int start = (int) pageable.getOffset();
+    @Override
+    public Flux<Review> streamReviews(String restaurantId, Sort sort) {
+        assertRestaurantExists(restaurantId);
+        return reactiveReviewRepository.findByRestaurantId(restaurantId, toReviewSort(sort));
+    }
 
-        if (start >= reviews.size()) {
-            return new PageImpl<>(Collections.emptyList(), pageable, reviews.size());
-        }
+    private static Sort toReviewSort(Sort sort) {
+        Sort.Order order = sort.isSorted()
+                ? sort.iterator().next()
+                : Sort.Order.desc("datePosted");
 
-        int end = Math.min((start + pageable.getPageSize()), reviews.size());
+        String property = switch (order.getProperty()) {
+            case "datePosted" -> "datePosted";
+            case "rating" -> "rating";
+            default -> "datePosted";
+        };
 
-        return new PageImpl<>(reviews.subList(start, end), pageable, reviews.size());
+        return Sort.by(order.getDirection(), property).and(Sort.by("id"));
     }
 
     @Override
     public Optional<Review> getReview(String restaurantId, String reviewId) {
-        Restaurant restaurant = getRestaurantOrThrow(restaurantId);
-        return getReviewFromRestaurant(reviewId, restaurant);
+        assertRestaurantExists(restaurantId);
+        return getReviewForRestaurant(restaurantId, reviewId);
     }
 
-    private static Optional<Review> getReviewFromRestaurant(String reviewId, Restaurant restaurant) {
-        return restaurant.getReviews()
-                .stream()
-                .filter(review -> review.getId().equals(reviewId))
-                .findFirst();
+    private Optional<Review> getReviewForRestaurant(String restaurantId, String reviewId) {
+        return reviewRepository.findById(reviewId)
+                .filter(review -> restaurantId.equals(review.getRestaurantId()));
     }
 
     @Override
     public Review updateReview(User author, String restaurantId, String reviewId, ReviewCreateUpdateRequest request) {
-        Restaurant restaurant = getRestaurantOrThrow(restaurantId);
+        assertRestaurantExists(restaurantId);
+
+        ReviewUpdate update = optimisticRetryExecutor.execute("updateReview", () ->
+                applyReviewUpdate(author, restaurantId, reviewId, request)
+        );
 
+        ratingWriteCoalescer.apply(restaurantId, update.delta());
+        restaurantDetailsCache.evict(restaurantId);
+
+        return update.review();
+    }
+
+    private ReviewUpdate applyReviewUpdate(
+            User author, String restaurantId, String reviewId, ReviewCreateUpdateRequest request
+    ) {
         String authorId = author.getId();
 
-        Review existingReview = getReviewFromRestaurant(reviewId, restaurant)
+        Review existingReview = getReviewForRestaurant(restaurantId, reviewId)
                 .orElseThrow(() -> new ReviewNotAllowedException("Review does not exist"));
 
         if (!authorId.equals(existingReview.getWrittenBy().getId())) {
@@ -134,6 +154,8 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ReviewNotAllowedException("Review can no long be edited");
         }
 
+        int previousRating = existingReview.getRating();
+
         existingReview.setContent(request.getContent());
         existingReview.setRating(request.getRating());
         existingReview.setLastEdited(now);
@@ -146,51 +168,34 @@ public class ReviewServiceImpl implements ReviewService {
                 ).toList();
         existingReview.setPhotos(photos);
 
-        updateRestaurantAverageReview(restaurant);
-
-        List<Review> updatedReviews = new ArrayList<>(restaurant
-                .getReviews()
-                .stream()
-                .filter(review -> !reviewId.equals(review.getId()))
-                .toList()
-        );
-        updatedReviews.add(existingReview);
-        restaurant.setReviews(updatedReviews);
-
-        restaurantRepository.save(restaurant);
+        Review savedReview = reviewRepository.save(existingReview);
 
-        return existingReview;
+        return new ReviewUpdate(savedReview, RatingDelta.changed(previousRating, savedReview.getRating()));
     }
 
     @Override
     public void deleteReview(String restaurantId, String reviewId) {
-        Restaurant restaurant = getRestaurantOrThrow(restaurantId);
-        List<Review> filterReviews = restaurant.getReviews()
-                .stream()
-                .filter(review -> !reviewId.equals(review.getId()))
-                .toList();
-        restaurant.setReviews(filterReviews);
-        updateRestaurantAverageReview(restaurant);
-        restaurantRepository.save(restaurant);
-    }
+        assertRestaurantExists(restaurantId);
+
+        RatingDelta delta = optimisticRetryExecutor.execute("deleteReview", () ->
+                getReviewForRestaurant(restaurantId, reviewId)
+                        .map(review -> {
+                            reviewRepository.deleteIfUnchanged(review);
+                            return RatingDelta.removed(review.getRating());
+                        })
+                        .orElseGet(RatingDelta::new)
+        );
 
-    private Restaurant getRestaurantOrThrow(String restaurantId) {
-        return restaurantRepository.findById(restaurantId)
-                .orElseThrow(() -> new RestaurantNotFoundException("Restaurant not found with id: " + restaurantId));
+        ratingWriteCoalescer.apply(restaurantId, delta);
+        restaurantDetailsCache.evict(restaurantId);
     }
 
-    private void updateRestaurantAverageReview(Restaurant restaurant) {
-        List<Review> reviews = restaurant.getReviews();
-
-        if (reviews.isEmpty()) {
-            restaurant.setAverageRating(0.0f);
-        } else {
-            double averageRating = reviews.stream()
-                    .mapToDouble(Review::getRating)
-                    .average()
-                    .orElse(0.0);
-
-            restaurant.setAverageRating((float) averageRating);
+    private void assertRestaurantExists(String restaurantId) {
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new RestaurantNotFoundException("Restaurant not found with id: " + restaurantId);
         }
     }
+
+    private record ReviewUpdate(Review review, RatingDelta delta) {
+    }
 }
@@ -0,0 +1,35 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.AddressKey;
+import com.dev.restaurant.domain.GeoLocation;
+import com.dev.restaurant.domain.entities.Address;
+import com.dev.restaurant.services.GeoLocationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+
+@Service
+@Qualifier("geoLocationProvider")
+@ConditionalOnProperty(name = "app.geocoding.provider", havingValue = "stub")
+public class StubGeoLocationService implements GeoLocationService {
+
+    private static final float MIN_LATITUDE = 51.28f;
+    private static final float MAX_LATITUDE = 51.686f;
+    private static final float MIN_LONGITUDE = -0.489f;
+    private static final float MAX_LONGITUDE = 0.236f;
+
+    @Override
+    public GeoLocation geoLocation(Address address) {
+        SplittableRandom random = new SplittableRandom(AddressKey.of(address).value().hashCode());
+
+        double latitude = MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+        double longitude = MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+
+        return GeoLocation.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
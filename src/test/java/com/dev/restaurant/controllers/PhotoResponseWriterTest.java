@@ -0,0 +1,246 @@
+package com.dev.restaurant.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotoResponseWriterTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-05-01T10:15:30Z");
+    private static final String ETAG = "\"" + Long.toHexString(LAST_MODIFIED.toEpochMilli()) + "-"
+            + Long.toHexString(CONTENT.length()) + "\"";
+
+    @TempDir
+    Path directory;
+
+    private final PhotoResponseWriter writer = new PhotoResponseWriter(Duration.ofDays(365), DataSize.ofKilobytes(48));
+
+    private FileSystemResource photo;
+
+    @BeforeEach
+    void createPhoto() throws IOException {
+        Path file = directory.resolve("photo.jpg");
+        Files.writeString(file, CONTENT);
+        Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+        photo = new FileSystemResource(file);
+    }
+
+    @Test
+    void requestWithoutRangeReturnsWholePhoto() throws IOException {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void closedRangeReturnsPartialContent() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    void suffixRangeReturnsLastBytes() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-4");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("6789");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 6-9/10");
+    }
+
+    @Test
+    void suffixRangeLongerThanPhotoReturnsWholePhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-50");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/10");
+    }
+
+    @Test
+    void openEndedRangeRunsToEndOfPhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=7-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    void multipleRangesAreServedAsWholePhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+
+    @Test
+    void malformedRangeIsIgnored() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "lines=1-2");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rangeBeyondPhotoIsNotSatisfiable() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-20");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void emptySuffixRangeIsNotSatisfiable() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-0");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void ifRangeWithCurrentEtagHonoursRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-2");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("012");
+    }
+
+    @Test
+    void ifRangeWithStaleEtagReturnsWholePhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-2");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ifRangeWithWeakEtagReturnsWholePhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-2");
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ifRangeWithLastModifiedDateHonoursRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-2");
+        request.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("012");
+    }
+
+    @Test
+    void ifRangeWithOlderDateReturnsWholePhoto() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-2");
+        request.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED.minusSeconds(60)));
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void headRequestSendsHeadersOnly() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/photos/photo.jpg");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-4");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(photo, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/photos/photo.jpg");
+    }
+
+    private static String httpDate(Instant instant) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+    }
+}
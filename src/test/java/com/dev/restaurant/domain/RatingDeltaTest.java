@@ -0,0 +1,95 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.domain.entities.Restaurant;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RatingDeltaTest {
+
+    @Test
+    void addedCountsOneReviewWithItsStar() {
+        RatingDelta delta = RatingDelta.added(4);
+
+        assertThat(delta.getReviewCount()).isEqualTo(1);
+        assertThat(delta.getRatingSum()).isEqualTo(4);
+        assertThat(delta.getHistogram()).containsExactly(Map.entry("4", 1));
+    }
+
+    @Test
+    void changedMovesOneReviewBetweenStars() {
+        RatingDelta delta = RatingDelta.changed(2, 5);
+
+        assertThat(delta.getReviewCount()).isZero();
+        assertThat(delta.getRatingSum()).isEqualTo(3);
+        assertThat(delta.getHistogram()).containsOnly(Map.entry("2", -1), Map.entry("5", 1));
+    }
+
+    @Test
+    void changedToSameRatingIsEmpty() {
+        assertThat(RatingDelta.changed(3, 3).isEmpty()).isTrue();
+    }
+
+    @Test
+    void mergeCancelsOutAndDropsZeroBuckets() {
+        RatingDelta delta = RatingDelta.added(5).merge(RatingDelta.removed(5));
+
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.getHistogram()).isEmpty();
+    }
+
+    @Test
+    void ofRatingsMatchesMergedSingleAdds() {
+        RatingDelta merged = RatingDelta.added(1).merge(RatingDelta.added(3)).merge(RatingDelta.added(3));
+
+        assertThat(RatingDelta.ofRatings(List.of(1, 3, 3))).isEqualTo(merged);
+    }
+
+    @Test
+    void applyToRestaurantWithoutAggregatesStartsFromZero() {
+        Restaurant restaurant = new Restaurant();
+
+        RatingDelta.ofRatings(List.of(4, 5)).applyTo(restaurant);
+
+        assertThat(restaurant.getTotalReviews()).isEqualTo(2);
+        assertThat(restaurant.getRatingSum()).isEqualTo(9);
+        assertThat(restaurant.getAverageRating()).isEqualTo(4.5f);
+        assertThat(restaurant.getRatingHistogram()).containsOnly(Map.entry("4", 1), Map.entry("5", 1));
+    }
+
+    @Test
+    void applyToAdjustsExistingAggregatesWithoutMutatingTheirHistogram() {
+        Map<String, Integer> histogram = Map.of("2", 1, "4", 1);
+        Restaurant restaurant = Restaurant.builder()
+                .totalReviews(2)
+                .ratingSum(6L)
+                .ratingHistogram(histogram)
+                .build();
+
+        RatingDelta.changed(2, 5).applyTo(restaurant);
+
+        assertThat(restaurant.getTotalReviews()).isEqualTo(2);
+        assertThat(restaurant.getRatingSum()).isEqualTo(9);
+        assertThat(restaurant.getAverageRating()).isEqualTo(4.5f);
+        assertThat(restaurant.getRatingHistogram()).containsEntry("2", 0).containsEntry("4", 1).containsEntry("5", 1);
+        assertThat(histogram).containsOnly(Map.entry("2", 1), Map.entry("4", 1));
+    }
+
+    @Test
+    void removingLastReviewResetsAverageToZero() {
+        Restaurant restaurant = Restaurant.builder()
+                .totalReviews(1)
+                .ratingSum(3L)
+                .ratingHistogram(Map.of("3", 1))
+                .build();
+
+        RatingDelta.removed(3).applyTo(restaurant);
+
+        assertThat(restaurant.getTotalReviews()).isZero();
+        assertThat(restaurant.getRatingSum()).isZero();
+        assertThat(restaurant.getAverageRating()).isZero();
+    }
+}
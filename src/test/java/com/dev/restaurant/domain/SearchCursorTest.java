@@ -0,0 +1,83 @@
+package com.dev.restaurant.domain;
+
+import com.dev.restaurant.exceptions.InvalidSearchException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePitAndSortValues() {
+        SearchCursor cursor = SearchCursor.builder()
+                .pitId("pit-123")
+                .searchAfter(List.of(4.5, 1700000000000L, "restaurant-1"))
+                .build();
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded.getPitId()).isEqualTo("pit-123");
+        assertThat(decoded.getSearchAfter()).containsExactly(4.5, 1700000000000L, "restaurant-1");
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        SearchCursor cursor = SearchCursor.builder()
+                .pitId("??>>~~")
+                .searchAfter(List.of("??>>"))
+                .build();
+
+        assertThat(cursor.encode()).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void tokenThatIsNotBase64IsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode("not base64!"))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    @Test
+    void tokenThatIsNotJsonIsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode(encode("pitId=abc")))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    @Test
+    void tokenWithUnknownFieldIsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode(encode("{\"pitId\":\"abc\",\"searchAfter\":[1],\"from\":100}")))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    @Test
+    void tokenWithoutPitIdIsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode(encode("{\"searchAfter\":[1]}")))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    @Test
+    void tokenWithoutSearchAfterIsRejected() {
+        assertThatThrownBy(() -> SearchCursor.decode(encode("{\"pitId\":\"abc\"}")))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    @Test
+    void truncatedTokenIsRejected() {
+        String token = SearchCursor.builder()
+                .pitId("pit-123")
+                .searchAfter(List.of(4.5, "restaurant-1"))
+                .build()
+                .encode();
+
+        assertThatThrownBy(() -> SearchCursor.decode(token.substring(0, token.length() / 2)))
+                .isInstanceOf(InvalidSearchException.class);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
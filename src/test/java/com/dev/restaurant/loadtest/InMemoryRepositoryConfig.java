@@ -0,0 +1,133 @@
+package com.dev.restaurant.loadtest;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.repositories.ReactiveRestaurantRepository;
+import com.dev.restaurant.repositories.ReactiveReviewRepository;
+import com.dev.restaurant.repositories.RestaurantRepository;
+import com.dev.restaurant.repositories.ReviewRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import reactor.core.publisher.Flux;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@Profile("loadtest")
+public class InMemoryRepositoryConfig {
+
+    @Bean
+    public InMemoryStore inMemoryStore() {
+        return new InMemoryStore();
+    }
+
+    @Bean
+    public RestaurantRepository restaurantRepository(InMemoryStore store) {
+        return proxy(RestaurantRepository.class, (method, args) -> switch (method.getName()) {
+            case "save" -> store.saveRestaurant((Restaurant) args[0]);
+            case "findById" -> store.findRestaurant((String) args[0]);
+            case "existsById" -> store.restaurantExists((String) args[0]);
+            case "deleteById" -> {
+                store.deleteRestaurant((String) args[0]);
+                yield null;
+            }
+            case "count" -> store.restaurantCount();
+            case "searchSummaries" -> store.search((RestaurantSearchCriteria) args[0], (Pageable) args[1]);
+            case "applyRatingDelta" -> {
+                store.applyRatingDelta((String) args[0], (RatingDelta) args[1]);
+                yield null;
+            }
+            case "bulkIndex" -> {
+                ((List<?>) args[0]).forEach(restaurant -> store.saveRestaurant((Restaurant) restaurant));
+                yield Map.of();
+            }
+            case "suspendRefresh", "resumeRefresh" -> null;
+            default -> throw new UnsupportedOperationException(method.toString());
+        });
+    }
+
+    @Bean
+    public ReviewRepository reviewRepository(InMemoryStore store) {
+        return proxy(ReviewRepository.class, (method, args) -> switch (method.getName()) {
+            case "save" -> store.saveReview((Review) args[0]);
+            case "createIfAbsent" -> store.createReviewIfAbsent((Review) args[0]);
+            case "findById" -> store.findReview((String) args[0]);
+            case "findByRestaurantId" -> args.length == 1
+                    ? store.findReviews((String) args[0], Sort.by("id"))
+                    : store.findReviews((String) args[0], (Pageable) args[1]);
+            case "existsByRestaurantIdAndWrittenById" -> store.hasReviewBy((String) args[0], (String) args[1]);
+            case "deleteIfUnchanged" -> {
+                store.deleteReview((Review) args[0]);
+                yield null;
+            }
+            case "deleteByRestaurantId" -> {
+                store.deleteReviews((String) args[0]);
+                yield null;
+            }
+            case "count" -> store.reviewCount();
+            default -> throw new UnsupportedOperationException(method.toString());
+        });
+    }
+
+    @Bean
+    public ReactiveRestaurantRepository reactiveRestaurantRepository(InMemoryStore store) {
+        return proxy(ReactiveRestaurantRepository.class, (method, args) -> switch (method.getName()) {
+            case "streamSummaries" -> Flux.fromStream(() -> store.search((RestaurantSearchCriteria) args[0]));
+            default -> throw new UnsupportedOperationException(method.toString());
+        });
+    }
+
+    @Bean
+    public ReactiveReviewRepository reactiveReviewRepository(InMemoryStore store) {
+        return proxy(ReactiveReviewRepository.class, (method, args) -> switch (method.getName()) {
+            case "findByRestaurantId" -> Flux.fromStream(() -> store.findReviews((String) args[0], (Sort) args[1]));
+            default -> throw new UnsupportedOperationException(method.toString());
+        });
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        return token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(token)
+                .claim("preferred_username", token)
+                .claim("given_name", "Load")
+                .claim("family_name", "Test")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    private static <T> T proxy(Class<T> repositoryType, RepositoryMethodHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> "InMemory" + repositoryType.getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> handler.invoke(method, null == args ? new Object[0] : args);
+        };
+
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                invocationHandler
+        ));
+    }
+
+    @FunctionalInterface
+    private interface RepositoryMethodHandler {
+
+        Object invoke(Method method, Object[] args);
+    }
+}
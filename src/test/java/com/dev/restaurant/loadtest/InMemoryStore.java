@@ -0,0 +1,202 @@
+package com.dev.restaurant.loadtest;
+
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.RestaurantSearchCriteria;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+public class InMemoryStore {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final ConcurrentMap<String, Restaurant> restaurants = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Review> reviews = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Review>> reviewsByRestaurant = new ConcurrentHashMap<>();
+
+    public Restaurant saveRestaurant(Restaurant restaurant) {
+        if (null == restaurant.getId()) {
+            restaurant.setId(UUID.randomUUID().toString());
+        }
+        restaurants.put(restaurant.getId(), restaurant);
+        return restaurant;
+    }
+
+    public Optional<Restaurant> findRestaurant(String id) {
+        return Optional.ofNullable(restaurants.get(id));
+    }
+
+    public boolean restaurantExists(String id) {
+        return restaurants.containsKey(id);
+    }
+
+    public void deleteRestaurant(String id) {
+        restaurants.remove(id);
+    }
+
+    public long restaurantCount() {
+        return restaurants.size();
+    }
+
+    public List<String> restaurantIds() {
+        return List.copyOf(restaurants.keySet());
+    }
+
+    public void applyRatingDelta(String restaurantId, RatingDelta delta) {
+        restaurants.computeIfPresent(restaurantId, (id, restaurant) -> {
+            delta.applyTo(restaurant);
+            return restaurant;
+        });
+    }
+
+    public Stream<Restaurant> search(RestaurantSearchCriteria criteria) {
+        Stream<Restaurant> matches = restaurants.values().stream()
+                .filter(restaurant -> matchesText(restaurant, criteria.getQuery()))
+                .filter(restaurant -> null == criteria.getMinRating()
+                        || (null != restaurant.getAverageRating() && restaurant.getAverageRating() >= criteria.getMinRating()))
+                .filter(restaurant -> null == criteria.getCuisineType()
+                        || criteria.getCuisineType().equalsIgnoreCase(restaurant.getCuisineType()));
+
+        if (null == criteria.getLatitude() || null == criteria.getLongitude()) {
+            return matches.sorted(Comparator.comparing(
+                    Restaurant::getAverageRating, Comparator.nullsLast(Comparator.reverseOrder())
+            ));
+        }
+
+        Stream<Restaurant> located = matches
+                .peek(restaurant -> restaurant.setDistanceKm(distanceKm(restaurant, criteria)))
+                .filter(restaurant -> null == criteria.getRadius() || restaurant.getDistanceKm() <= criteria.getRadius());
+
+        return criteria.isSortByDistance()
+                ? located.sorted(Comparator.comparing(Restaurant::getDistanceKm))
+                : located;
+    }
+
+    public Page<Restaurant> search(RestaurantSearchCriteria criteria, Pageable pageable) {
+        List<Restaurant> matches = search(criteria).toList();
+        return page(matches, pageable);
+    }
+
+    public Review saveReview(Review review) {
+        if (null == review.getId()) {
+            review.setId(UUID.randomUUID().toString());
+        }
+        Review previous = reviews.put(review.getId(), review);
+        List<Review> restaurantReviews = reviewsByRestaurant
+                .computeIfAbsent(review.getRestaurantId(), id -> new CopyOnWriteArrayList<>());
+        if (null != previous) {
+            restaurantReviews.remove(previous);
+        }
+        restaurantReviews.add(review);
+        return review;
+    }
+
+    public boolean createReviewIfAbsent(Review review) {
+        if (null != reviews.putIfAbsent(review.getId(), review)) {
+            return false;
+        }
+        reviewsByRestaurant
+                .computeIfAbsent(review.getRestaurantId(), id -> new CopyOnWriteArrayList<>())
+                .add(review);
+        return true;
+    }
+
+    public Optional<Review> findReview(String id) {
+        return Optional.ofNullable(reviews.get(id));
+    }
+
+    public void deleteReview(Review review) {
+        reviews.remove(review.getId());
+        reviewsByRestaurant.getOrDefault(review.getRestaurantId(), List.of()).remove(review);
+    }
+
+    public void deleteReviews(String restaurantId) {
+        List<Review> removed = reviewsByRestaurant.remove(restaurantId);
+        if (null != removed) {
+            removed.forEach(review -> reviews.remove(review.getId()));
+        }
+    }
+
+    public long reviewCount() {
+        return reviews.size();
+    }
+
+    public boolean hasReviewBy(String restaurantId, String userId) {
+        return reviewsByRestaurant.getOrDefault(restaurantId, List.of()).stream()
+                .anyMatch(review -> userId.equals(review.getWrittenBy().getId()));
+    }
+
+    public Stream<Review> findReviews(String restaurantId, Sort sort) {
+        return reviewsByRestaurant.getOrDefault(restaurantId, List.of()).stream()
+                .sorted(reviewComparator(sort));
+    }
+
+    public Page<Review> findReviews(String restaurantId, Pageable pageable) {
+        List<Review> restaurantReviews = reviewsByRestaurant.getOrDefault(restaurantId, List.of());
+        List<Review> content = restaurantReviews.stream()
+                .sorted(reviewComparator(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, restaurantReviews.size());
+    }
+
+    private static boolean matchesText(Restaurant restaurant, String query) {
+        if (null == query || query.isBlank()) {
+            return true;
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+        return contains(restaurant.getName(), needle) || contains(restaurant.getCuisineType(), needle);
+    }
+
+    private static boolean contains(String value, String needle) {
+        return null != value && value.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static double distanceKm(Restaurant restaurant, RestaurantSearchCriteria criteria) {
+        double lat1 = Math.toRadians(criteria.getLatitude());
+        double lat2 = Math.toRadians(restaurant.getGeoLocation().getLat());
+        double deltaLat = lat2 - lat1;
+        double deltaLon = Math.toRadians(restaurant.getGeoLocation().getLon() - criteria.getLongitude());
+
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+
+    private static Comparator<Review> reviewComparator(Sort sort) {
+        Comparator<Review> comparator = (left, right) -> 0;
+
+        for (Sort.Order order : sort) {
+            Comparator<Review> next = switch (order.getProperty()) {
+                case "rating" -> Comparator.comparing(Review::getRating);
+                case "datePosted" -> Comparator.comparing(Review::getDatePosted);
+                default -> Comparator.comparing(Review::getId);
+            };
+            comparator = comparator.thenComparing(order.isAscending() ? next : next.reversed());
+        }
+
+        return comparator;
+    }
+
+    private static <T> Page<T> page(List<T> matches, Pageable pageable) {
+        List<T> content = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+}
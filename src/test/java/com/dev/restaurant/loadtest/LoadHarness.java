@@ -0,0 +1,226 @@
+package com.dev.restaurant.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+public class LoadHarness {
+
+    private static final String DEFAULT_PATHS = String.join(",",
+            "/api/restaurants?q=pizza",
+            "/api/restaurants?minRating=3",
+            "/api/restaurants/nearby?latitude=51.5&longitude=-0.12&radius=5"
+    );
+
+    private final URI baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient httpClient;
+
+    public LoadHarness(URI baseUrl, int concurrency, Duration warmup, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadHarness harness = new LoadHarness(
+                URI.create(System.getProperty("loadtest.base-url", "http://localhost:8080")),
+                Integer.getInteger("loadtest.concurrency", 1000),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60))
+        );
+
+        List<Endpoint> endpoints = Arrays.stream(System.getProperty("loadtest.paths", DEFAULT_PATHS).split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .map(path -> Endpoint.get(path, 1))
+                .toList();
+
+        System.out.println(harness.run(endpoints).format());
+    }
+
+    public LoadReport run(List<Endpoint> endpoints) throws Exception {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        List<Future<VirtualUser>> users = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.add(executor.submit(() -> new VirtualUser(endpoints.size()).run(endpoints, totalWeight, warmupEnd, end)));
+            }
+        }
+
+        List<EndpointStats> stats = new ArrayList<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            Samples merged = new Samples();
+            long errors = 0;
+            for (Future<VirtualUser> user : users) {
+                merged.addAll(user.get().latencies[i]);
+                errors += user.get().errors[i];
+            }
+            stats.add(EndpointStats.of(endpoints.get(i).name(), merged, errors, duration));
+        }
+        return new LoadReport(concurrency, duration, stats);
+    }
+
+    private class VirtualUser {
+
+        private final Samples[] latencies;
+        private final long[] errors;
+
+        private VirtualUser(int endpointCount) {
+            this.latencies = new Samples[endpointCount];
+            this.errors = new long[endpointCount];
+            for (int i = 0; i < endpointCount; i++) {
+                latencies[i] = new Samples();
+            }
+        }
+
+        private VirtualUser run(List<Endpoint> endpoints, int totalWeight, long warmupEnd, long end) {
+            while (System.nanoTime() < end) {
+                int index = pick(endpoints, totalWeight);
+                long start = System.nanoTime();
+                boolean failed;
+                try {
+                    HttpResponse<Void> response = httpClient.send(
+                            endpoints.get(index).request().apply(baseUrl),
+                            HttpResponse.BodyHandlers.discarding()
+                    );
+                    failed = response.statusCode() >= 500;
+                } catch (Exception e) {
+                    failed = true;
+                }
+                long elapsed = System.nanoTime() - start;
+
+                if (start >= warmupEnd) {
+                    latencies[index].add(elapsed);
+                    if (failed) {
+                        errors[index]++;
+                    }
+                }
+            }
+            return this;
+        }
+
+        private int pick(List<Endpoint> endpoints, int totalWeight) {
+            int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (int i = 0; i < endpoints.size(); i++) {
+                roll -= endpoints.get(i).weight();
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return endpoints.size() - 1;
+        }
+    }
+
+    public record Endpoint(String name, int weight, Function<URI, HttpRequest> request) {
+
+        public static Endpoint get(String path, int weight) {
+            return new Endpoint("GET " + path, weight, baseUrl ->
+                    HttpRequest.newBuilder(baseUrl.resolve(path))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build()
+            );
+        }
+    }
+
+    public record EndpointStats(
+            String name,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+
+        static EndpointStats of(String name, Samples samples, long errors, Duration duration) {
+            long[] sorted = samples.sorted();
+            return new EndpointStats(
+                    name,
+                    sorted.length,
+                    errors,
+                    sorted.length / (duration.toMillis() / 1000.0),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    0 == sorted.length ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+            );
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (0 == sorted.length) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, rank)] / 1_000_000.0;
+        }
+    }
+
+    public record LoadReport(int concurrency, Duration duration, List<EndpointStats> endpoints) {
+
+        public String format() {
+            StringBuilder builder = new StringBuilder(String.format(
+                    Locale.ROOT,
+                    "concurrency=%d duration=%ds%n%-60s %10s %8s %10s %10s %10s %10s %10s%n",
+                    concurrency, duration.toSeconds(),
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"
+            ));
+            endpoints.forEach(stats -> builder.append(String.format(
+                    Locale.ROOT,
+                    "%-60s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    stats.name(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50Millis(), stats.p95Millis(), stats.p99Millis(), stats.maxMillis()
+            )));
+            return builder.toString();
+        }
+    }
+
+    static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
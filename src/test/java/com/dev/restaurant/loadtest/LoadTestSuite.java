@@ -0,0 +1,156 @@
+package com.dev.restaurant.loadtest;
+
+import com.dev.restaurant.RestaurantApplication;
+import com.dev.restaurant.domain.RatingDelta;
+import com.dev.restaurant.domain.entities.Address;
+import com.dev.restaurant.domain.entities.Restaurant;
+import com.dev.restaurant.domain.entities.Review;
+import com.dev.restaurant.domain.entities.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LoadTestSuite {
+
+    private static final String[] CUISINES = {"Italian", "Indian", "Japanese", "Mexican", "French", "Thai", "Pizza"};
+
+    public static void main(String[] args) throws Exception {
+        int restaurantCount = Integer.getInteger("loadtest.restaurants", 500);
+        int reviewsPerRestaurant = Integer.getInteger("loadtest.reviews-per-restaurant", 50);
+        Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RestaurantApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            InMemoryStore store = context.getBean(InMemoryStore.class);
+            seed(store, restaurantCount, reviewsPerRestaurant);
+            List<String> restaurantIds = store.restaurantIds();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadHarness harness = new LoadHarness(
+                    URI.create("http://localhost:" + port),
+                    Integer.getInteger("loadtest.concurrency", 200),
+                    Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                    Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30))
+            );
+
+            LoadHarness.LoadReport report = harness.run(mix(restaurantIds));
+            System.out.println(report.format());
+
+            writeReport(reportPath, report, restaurantCount, reviewsPerRestaurant);
+            System.out.println("Report written to " + reportPath.toAbsolutePath());
+        }
+    }
+
+    private static List<LoadHarness.Endpoint> mix(List<String> restaurantIds) {
+        return List.of(
+                LoadHarness.Endpoint.get("/api/restaurants?q=pizza", 10),
+                LoadHarness.Endpoint.get("/api/restaurants?minRating=3&cuisine=Italian", 10),
+                LoadHarness.Endpoint.get("/api/restaurants?latitude=51.5&longitude=-0.12&radius=5&sort=distance", 10),
+                new LoadHarness.Endpoint("GET /api/restaurants/{id}", 30, baseUrl ->
+                        HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + pick(restaurantIds)))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build()
+                ),
+                new LoadHarness.Endpoint("GET /api/restaurants/{id}/reviews", 30, baseUrl ->
+                        HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + pick(restaurantIds) + "/reviews?sort=rating,desc"))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build()
+                ),
+                new LoadHarness.Endpoint("POST /api/restaurants/{id}/reviews", 10, baseUrl ->
+                        HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + pick(restaurantIds) + "/reviews"))
+                                .timeout(Duration.ofSeconds(30))
+                                .header("Authorization", "Bearer user-" + UUID.randomUUID())
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(
+                                        "{\"content\":\"Great food, friendly staff.\",\"rating\":"
+                                                + ThreadLocalRandom.current().nextInt(1, 6)
+                                                + ",\"photoIds\":[]}"
+                                ))
+                                .build()
+                )
+        );
+    }
+
+    private static void seed(InMemoryStore store, int restaurantCount, int reviewsPerRestaurant) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < restaurantCount; i++) {
+            String cuisine = CUISINES[i % CUISINES.length];
+            Restaurant restaurant = store.saveRestaurant(Restaurant.builder()
+                    .id("restaurant-" + i)
+                    .name(cuisine + " Kitchen " + i)
+                    .cuisineType(cuisine)
+                    .contactInformation("+44 20 7946 " + String.format("%04d", i))
+                    .averageRating(0f)
+                    .totalReviews(0)
+                    .ratingSum(0L)
+                    .geoLocation(new GeoPoint(51.28 + random.nextDouble() * 0.406, -0.489 + random.nextDouble() * 0.725))
+                    .address(Address.builder()
+                            .streetNumber(String.valueOf(i + 1))
+                            .streetName("High Street")
+                            .city("London")
+                            .postalCode("EC1A 1BB")
+                            .country("United Kingdom")
+                            .build())
+                    .createdBy(User.builder().id("owner").username("owner").build())
+                    .build());
+
+            for (int j = 0; j < reviewsPerRestaurant; j++) {
+                int rating = 1 + random.nextInt(5);
+                LocalDateTime posted = now.minusMinutes(random.nextInt(525_600));
+                store.saveReview(Review.builder()
+                        .id(restaurant.getId() + "-review-" + j)
+                        .restaurantId(restaurant.getId())
+                        .content("Seeded review " + j)
+                        .rating(rating)
+                        .datePosted(posted)
+                        .lastEdited(posted)
+                        .writtenBy(User.builder().id("seed-user-" + j).username("seed-user-" + j).build())
+                        .build());
+                store.applyRatingDelta(restaurant.getId(), RatingDelta.added(rating));
+            }
+        }
+    }
+
+    private static void writeReport(
+            Path reportPath, LoadHarness.LoadReport report, int restaurantCount, int reviewsPerRestaurant
+    ) throws Exception {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("concurrency", report.concurrency());
+        document.put("durationSeconds", report.duration().toSeconds());
+        document.put("restaurants", restaurantCount);
+        document.put("reviewsPerRestaurant", reviewsPerRestaurant);
+        document.put("endpoints", report.endpoints());
+
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportPath.toFile(), document);
+    }
+
+    private static String pick(List<String> restaurantIds) {
+        return restaurantIds.get(ThreadLocalRandom.current().nextInt(restaurantIds.size()));
+    }
+}
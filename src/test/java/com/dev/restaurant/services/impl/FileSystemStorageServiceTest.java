@@ -0,0 +1,176 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.domain.StoredFile;
+import com.dev.restaurant.exceptions.FileTooLargeException;
+import com.dev.restaurant.exceptions.StorageException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemStorageServiceTest {
+
+    private static final byte[] CONTENT = "photo bytes".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private Path rootLocation;
+
+    @Test
+    void contentAddressedPhotoIsShardedByItsHash() throws Exception {
+        FileSystemStorageService storageService = storageService(true);
+        String hash = sha256(CONTENT);
+
+        StoredFile storedFile = store(storageService, CONTENT, "jpg");
+
+        assertThat(storedFile.fileName()).isEqualTo(hash + ".jpg");
+        assertThat(storedFile.checksum()).isEqualTo(hash);
+        assertThat(storedFile.size()).isEqualTo(CONTENT.length);
+        assertThat(shardOf(hash).resolve(hash + ".jpg")).hasBinaryContent(CONTENT);
+    }
+
+    @Test
+    void identicalContentIsStoredOnce() throws Exception {
+        FileSystemStorageService storageService = storageService(true);
+
+        StoredFile first = store(storageService, CONTENT, "jpg");
+        StoredFile second = store(storageService, CONTENT, "jpg");
+
+        assertThat(second.fileName()).isEqualTo(first.fileName());
+        try (var files = Files.list(shardOf(first.checksum()))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void variantOfContentAddressedPhotoIsShardedNextToIt() throws Exception {
+        FileSystemStorageService storageService = storageService(true);
+        String hash = sha256(CONTENT);
+
+        storageService.storeVariant(hash + ".jpg", 160, new byte[]{1, 2, 3});
+
+        assertThat(shardOf(hash).resolve(hash + "_w160.jpg")).hasBinaryContent(new byte[]{1, 2, 3});
+        assertThat(storageService.loadVariant(hash + ".jpg", 160)).isPresent();
+        assertThat(storageService.loadVariant(hash + ".jpg", 480)).isEmpty();
+    }
+
+    @Test
+    void namesThatAreNotLowercaseHashesStayInRoot() {
+        FileSystemStorageService storageService = storageService(false);
+        String upperCaseHash = "A".repeat(64);
+
+        storageService.storeVariant("3f2b9c1e-0000-4000-8000-000000000000.png", 480, CONTENT);
+        storageService.storeVariant(upperCaseHash + ".png", 480, CONTENT);
+
+        assertThat(rootLocation.resolve("3f2b9c1e-0000-4000-8000-000000000000_w480.png")).exists();
+        assertThat(rootLocation.resolve(upperCaseHash + "_w480.png")).exists();
+    }
+
+    @Test
+    void uuidNamedUploadIsStoredInRoot() throws Exception {
+        FileSystemStorageService storageService = storageService(false);
+
+        StoredFile storedFile = storageService.store(new ByteArrayInputStream(CONTENT), CONTENT.length, "photo-id", "png");
+
+        assertThat(storedFile.fileName()).isEqualTo("photo-id.png");
+        assertThat(storedFile.checksum()).isEqualTo(sha256(CONTENT));
+        assertThat(rootLocation.resolve("photo-id.png")).hasBinaryContent(CONTENT);
+    }
+
+    @Test
+    void pathTraversalIsNotReadable() throws IOException {
+        FileSystemStorageService storageService = storageService(false);
+        Files.writeString(directory.resolve("secret.txt"), "secret");
+
+        assertThat(storageService.loadAsResource("../secret.txt")).isEmpty();
+        assertThat(storageService.loadAsResource("..\\secret.txt")).isEmpty();
+        assertThat(storageService.loadAsResource("nested/../../secret.txt")).isEmpty();
+        assertThat(storageService.loadAsResource(".hidden")).isEmpty();
+        assertThat(storageService.loadAsResource("")).isEmpty();
+    }
+
+    @Test
+    void pathTraversalIsNotWritable() {
+        FileSystemStorageService storageService = storageService(false);
+
+        assertThatThrownBy(() -> storageService.storeVariant("../escape.jpg", 160, CONTENT))
+                .isInstanceOf(StorageException.class);
+        assertThatThrownBy(() -> storageService.store(new ByteArrayInputStream(CONTENT), CONTENT.length, "../escape", "jpg"))
+                .isInstanceOf(StorageException.class);
+    }
+
+    @Test
+    void storedPhotoIsReadableByName() throws Exception {
+        FileSystemStorageService storageService = storageService(true);
+        StoredFile storedFile = store(storageService, CONTENT, "jpg");
+
+        Optional<Resource> resource = storageService.loadAsResource(storedFile.fileName());
+
+        assertThat(resource).isPresent();
+        assertThat(resource.get().getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void uploadOverDeclaredLimitIsRejected() {
+        FileSystemStorageService storageService = storageService(false);
+
+        assertThatThrownBy(() -> storageService.store(new ByteArrayInputStream(CONTENT), 2048, "photo-id", "jpg"))
+                .isInstanceOf(FileTooLargeException.class);
+    }
+
+    @Test
+    void uploadOverActualLimitIsRejectedAndNotKept() throws IOException {
+        FileSystemStorageService storageService = storageService(false);
+
+        assertThatThrownBy(() -> storageService.store(new ByteArrayInputStream(new byte[2048]), 10, "photo-id", "jpg"))
+                .isInstanceOf(FileTooLargeException.class);
+        try (var files = Files.list(rootLocation)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void emptyUploadIsRejected() {
+        FileSystemStorageService storageService = storageService(false);
+
+        assertThatThrownBy(() -> storageService.store(new ByteArrayInputStream(new byte[0]), 0, "photo-id", "jpg"))
+                .isInstanceOf(StorageException.class);
+    }
+
+    private FileSystemStorageService storageService(boolean contentAddressed) {
+        rootLocation = directory.resolve("uploads");
+        FileSystemStorageService storageService = new FileSystemStorageService();
+        ReflectionTestUtils.setField(storageService, "storageLocation", rootLocation.toString());
+        ReflectionTestUtils.setField(storageService, "maxFileSize", DataSize.ofKilobytes(1));
+        ReflectionTestUtils.setField(storageService, "contentAddressed", contentAddressed);
+        storageService.init();
+        return storageService;
+    }
+
+    private static StoredFile store(FileSystemStorageService storageService, byte[] content, String extension) {
+        return storageService.store(new ByteArrayInputStream(content), content.length, "ignored", extension);
+    }
+
+    private Path shardOf(String hash) {
+        return rootLocation.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,127 @@
+package com.dev.restaurant.services.impl;
+
+import com.dev.restaurant.exceptions.PhotoVariantUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoVariantGeneratorTest {
+
+    @TempDir
+    Path rootLocation;
+
+    private FileSystemStorageService storageService;
+
+    @BeforeEach
+    void createStorage() {
+        storageService = new FileSystemStorageService();
+        ReflectionTestUtils.setField(storageService, "storageLocation", rootLocation.toString());
+        ReflectionTestUtils.setField(storageService, "maxFileSize", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(storageService, "contentAddressed", false);
+        storageService.init();
+    }
+
+    @Test
+    void variantIsScaledToRequestedWidth() throws IOException {
+        writeImage("photo.png", 1200, 800);
+
+        Resource variant = generator(40_000_000, 1).getVariant("photo.png", 480).orElseThrow();
+
+        BufferedImage image = read(variant);
+        assertThat(image.getWidth()).isEqualTo(480);
+        assertThat(image.getHeight()).isEqualTo(320);
+        assertThat(rootLocation.resolve("photo_w480.png")).exists();
+    }
+
+    @Test
+    void imageOverPixelLimitIsSubsampledWhileDecoding() throws IOException {
+        writeImage("large.png", 4000, 3000);
+
+        Resource variant = generator(1_000_000, 1).getVariant("large.png", 480).orElseThrow();
+
+        BufferedImage image = read(variant);
+        assertThat(image.getWidth()).isEqualTo(480);
+        assertThat(image.getHeight()).isEqualTo(360);
+    }
+
+    @Test
+    void imageNarrowerThanVariantIsStoredUnchanged() throws IOException {
+        writeImage("small.png", 100, 50);
+
+        Resource variant = generator(40_000_000, 1).getVariant("small.png", 480).orElseThrow();
+
+        assertThat(variant.getContentAsByteArray()).isEqualTo(Files.readAllBytes(rootLocation.resolve("small.png")));
+    }
+
+    @Test
+    void storedVariantIsReusedWithoutGenerating() throws IOException {
+        writeImage("photo.png", 1200, 800);
+        generator(40_000_000, 1).getVariant("photo.png", 160);
+
+        assertThat(generator(40_000_000, 0).getVariant("photo.png", 160)).isPresent();
+    }
+
+    @Test
+    void busyGeneratorRejectsInsteadOfServingOriginal() throws IOException {
+        writeImage("photo.png", 1200, 800);
+
+        assertThatThrownBy(() -> generator(40_000_000, 0).getVariant("photo.png", 480))
+                .isInstanceOf(PhotoVariantUnavailableException.class);
+        assertThat(rootLocation.resolve("photo_w480.png")).doesNotExist();
+    }
+
+    @Test
+    void missingOriginalHasNoVariant() {
+        assertThat(generator(40_000_000, 1).getVariant("missing.png", 480)).isEmpty();
+    }
+
+    @Test
+    void variantWidthsWithoutPositiveValueAreRejected() {
+        assertThatThrownBy(() -> new PhotoVariantGenerator(storageService, List.of(0, -10), 1, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nearestWidthRoundsUpAndCapsAtLargest() {
+        PhotoVariantGenerator generator = generator(40_000_000, 1);
+
+        assertThat(generator.nearestWidth(100)).isEqualTo(160);
+        assertThat(generator.nearestWidth(480)).isEqualTo(480);
+        assertThat(generator.nearestWidth(5000)).isEqualTo(1080);
+    }
+
+    private PhotoVariantGenerator generator(long maxPixels, int maxConcurrentVariants) {
+        return new PhotoVariantGenerator(
+                storageService,
+                List.of(160, 480, 1080),
+                maxPixels,
+                maxConcurrentVariants,
+                Duration.ofMillis(10)
+        );
+    }
+
+    private void writeImage(String fileName, int width, int height) throws IOException {
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", rootLocation.resolve(fileName).toFile());
+    }
+
+    private static BufferedImage read(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return ImageIO.read(inputStream);
+        }
+    }
+}